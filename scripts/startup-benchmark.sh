@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Reports time-to-ready of the extracted application with and without the JDK AOT cache.
+# Time-to-ready is measured from process launch until /actuator/health/readiness answers 200.
+#
+# Usage: ./scripts/startup-benchmark.sh [aot-cache-dir] [runs]
+#   aot-cache-dir  output of ./mvnw -Paot-cache package (default target/aot-cache)
+#                  or ./gradlew trainAotCache (build/aot-cache)
+#   runs           starts per mode (default 5)
+set -euo pipefail
+
+SCRIPT_DIR=$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)
+cd "$SCRIPT_DIR/.." || exit 1
+
+AOT_DIR=${1:-target/aot-cache}
+RUNS=${2:-5}
+PORT=${PORT:-8080}
+READY_URL="http://localhost:${PORT}/actuator/health/readiness"
+
+fail() { echo "ERROR: $*" >&2; exit 1; }
+info() { echo "INFO: $*"; }
+
+command -v curl >/dev/null 2>&1 || fail "curl not found in PATH"
+[[ -f "$AOT_DIR/app.aot" ]] || fail "$AOT_DIR/app.aot not found, run ./mvnw -Paot-cache package -DskipTests first"
+APP_JAR=$(find "$AOT_DIR" -maxdepth 1 -name '*.jar' | head -n 1)
+[[ -n "$APP_JAR" ]] || fail "no extracted application jar in $AOT_DIR"
+
+info "Starting Postgres and RabbitMQ"
+docker compose -f compose.yml up -d postgres rabbitmq >/dev/null
+
+now_ms() { date +%s%3N; }
+
+# Prints the milliseconds from launch to readiness for one start with the given JVM options
+time_to_ready() {
+  local start pid elapsed
+  start=$(now_ms)
+  java "$@" -Dserver.port="$PORT" -jar "$APP_JAR" >/dev/null 2>&1 &
+  pid=$!
+  until curl -sf -o /dev/null "$READY_URL"; do
+    kill -0 "$pid" 2>/dev/null || fail "application exited before becoming ready"
+    sleep 0.05
+  done
+  elapsed=$(( $(now_ms) - start ))
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  echo "$elapsed"
+}
+
+report() {
+  local label=$1; shift
+  local times=() total=0 t
+  for ((i = 1; i <= RUNS; i++)); do
+    t=$(time_to_ready "$@")
+    times+=("$t")
+    total=$((total + t))
+  done
+  local sorted
+  sorted=$(printf '%s\n' "${times[@]}" | sort -n | tr '\n' ' ')
+  printf '%-10s runs: %s ms  mean: %d ms\n' "$label" "$sorted" $((total / RUNS))
+}
+
+# One warm-up start so that the first measured run does not pay for cold OS file caches
+time_to_ready >/dev/null
+
+report "jvm" -Xshare:auto
+report "aot-cache" -XX:AOTCache="$AOT_DIR/app.aot"
@@ -3,9 +3,11 @@ package com.sivalabs.bookstore;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.cache.annotation.EnableCaching;
 
 @SpringBootApplication
 @ConfigurationPropertiesScan
+@EnableCaching
 public class BookStoreApplication {
 
     public static void main(String[] args) {
@@ -1,6 +1,8 @@
 package com.sivalabs.bookstore.catalog;
 
 import com.sivalabs.bookstore.catalog.domain.ProductService;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -15,4 +17,8 @@ public class ProductApi {
     public Optional<ProductDto> getByCode(String code) {
         return productService.getByCode(code);
     }
+
+    public Map<String, ProductDto> getByCodes(Collection<String> codes) {
+        return productService.getByCodes(codes);
+    }
 }
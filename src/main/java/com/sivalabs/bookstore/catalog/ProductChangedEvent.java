@@ -0,0 +1,6 @@
+package com.sivalabs.bookstore.catalog;
+
+import org.springframework.modulith.events.Externalized;
+
+@Externalized("BookStoreExchange::catalog.products.changed")
+public record ProductChangedEvent(String code) {}
@@ -0,0 +1,6 @@
+package com.sivalabs.bookstore.catalog;
+
+import org.springframework.modulith.events.Externalized;
+
+@Externalized("BookStoreExchange::catalog.products.bulk-changed")
+public record ProductsBulkChangedEvent(long productCount) {}
@@ -0,0 +1,39 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductChangedEvent;
+import com.sivalabs.bookstore.catalog.ProductDto;
+import com.sivalabs.bookstore.catalog.ProductsBulkChangedEvent;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints for the catalog: types Jackson reads or writes (externalized and stored events, NDJSON import,
+ * export and change feed) and types the templates call methods on.
+ */
+class CatalogRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar()
+                .registerReflectionHints(
+                        hints.reflection(),
+                        ProductChangedEvent.class,
+                        ProductsBulkChangedEvent.class,
+                        ProductDto.class,
+                        ProductChange.class,
+                        CreateProductCmd.class);
+        List.of(
+                        ProductDto.class,
+                        ProductSuggestion.class,
+                        CreateProductCmd.class,
+                        ProductBulkUpdateCmd.class,
+                        ProductBulkUpdateResult.class,
+                        ProductFilter.class,
+                        ProductSort.class)
+                .forEach(type -> hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS));
+    }
+}
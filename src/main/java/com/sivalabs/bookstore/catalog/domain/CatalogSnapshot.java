@@ -0,0 +1,194 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Optional ({@code app.catalog.snapshot.enabled}) in-memory copy of all live products, held in name and in price
+ * order, from which {@link ProductService} answers storefront reads without touching the database. A snapshot is never
+ * modified: every product change builds a new one and swaps it in, so readers need no locks. Until the startup
+ * preload has finished, reads fall back to the database.
+ */
+@Component
+public class CatalogSnapshot {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshot.class);
+
+    private final ProductRepository repo;
+    private final ProductQueryRepository queryRepo;
+    private final boolean enabled;
+    private volatile @Nullable Snapshot snapshot;
+
+    CatalogSnapshot(
+            ProductRepository repo,
+            ProductQueryRepository queryRepo,
+            CatalogSnapshotProperties properties,
+            MeterRegistry meterRegistry) {
+        this.repo = repo;
+        this.queryRepo = queryRepo;
+        this.enabled = properties.enabled();
+        Gauge.builder("catalog.snapshot.products", this, s -> {
+                    Snapshot current = s.snapshot;
+                    return current == null ? 0 : current.byName().size();
+                })
+                .description("Number of live products held in the in-memory catalog snapshot")
+                .register(meterRegistry);
+    }
+
+    public boolean isActive() {
+        return snapshot != null;
+    }
+
+    // A new transaction because this also runs from after-commit listeners, where the old one is already completed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<ProductPageRow> rows = new ArrayList<>();
+        queryRepo.forEachLiveProductRow(rows::add);
+        List<ProductPageRow> byName = new ArrayList<>(rows);
+        byName.sort(ProductSort.NAME.order());
+        rows.sort(ProductSort.PRICE_ASC.order());
+        this.snapshot = Snapshot.of(byName, rows);
+        log.info("Loaded catalog snapshot with {} products", rows.size());
+    }
+
+    public synchronized void refresh(String code) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        ProductPageRow previous = current.byCode().get(code);
+        ProductPageRow row = repo.findLivePageRowByCode(code).orElse(null);
+        this.snapshot = Snapshot.of(
+                replace(current.byName(), ProductSort.NAME.order(), previous, row),
+                replace(current.byPrice(), ProductSort.PRICE_ASC.order(), previous, row));
+    }
+
+    Page<ProductDto> findLiveProducts(Pageable pageable) {
+        List<ProductPageRow> rows = requireSnapshot().byName();
+        int from = (int) Math.min(pageable.getOffset(), rows.size());
+        int to = Math.min(from + pageable.getPageSize(), rows.size());
+        List<ProductDto> content = rows.subList(from, to).stream().map(ProductPageRow::product).toList();
+        return new PageImpl<>(content, pageable, rows.size());
+    }
+
+    List<ProductPageRow> findLivePage(
+            ProductFilter filter, ProductSort sort, @Nullable ProductCursor after, int limit) {
+        Snapshot current = requireSnapshot();
+        List<ProductPageRow> rows = switch (sort) {
+            case NAME -> current.byName();
+            case PRICE_ASC -> current.byPrice();
+            case PRICE_DESC -> current.byPrice().reversed();
+        };
+        Comparator<ProductPageRow> order = sort.order();
+        int from = after == null ? 0 : indexAfter(rows, order, probe(sort, after));
+        // Price orders start at the near edge of the price band, like an index range scan
+        @Nullable BigDecimal bandStart =
+                switch (sort) {
+                    case NAME -> null;
+                    case PRICE_ASC -> filter.minPrice();
+                    case PRICE_DESC -> filter.maxPrice();
+                };
+        if (bandStart != null) {
+            long edgeId = sort == ProductSort.PRICE_ASC ? Long.MIN_VALUE : Long.MAX_VALUE;
+            from = Math.max(from, indexAfter(rows, order, priceProbe(bandStart, edgeId)));
+        }
+        List<ProductPageRow> page = new ArrayList<>(limit);
+        for (int i = from; i < rows.size() && page.size() < limit; i++) {
+            ProductPageRow row = rows.get(i);
+            if (filter.matches(row.product())) {
+                page.add(row);
+            } else if (sort != ProductSort.NAME) {
+                // The filter only constrains price, so in price order the first miss is past the band
+                break;
+            }
+        }
+        return page;
+    }
+
+    Optional<ProductDto> findLiveProductByCode(String code) {
+        return Optional.ofNullable(requireSnapshot().byCode().get(code)).map(ProductPageRow::product);
+    }
+
+    private Snapshot requireSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Catalog snapshot is not loaded");
+        }
+        return current;
+    }
+
+    private static List<ProductPageRow> replace(
+            List<ProductPageRow> sortedRows,
+            Comparator<ProductPageRow> order,
+            @Nullable ProductPageRow previous,
+            @Nullable ProductPageRow row) {
+        List<ProductPageRow> rows = new ArrayList<>(sortedRows);
+        if (previous != null) {
+            rows.remove(indexAfter(rows, order, previous) - 1);
+        }
+        if (row != null) {
+            rows.add(indexAfter(rows, order, row), row);
+        }
+        return rows;
+    }
+
+    // Position of the first row that sorts after the probe
+    private static int indexAfter(List<ProductPageRow> rows, Comparator<ProductPageRow> order, ProductPageRow probe) {
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(rows.get(mid), probe) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // A row carrying only the sort key of a cursor position
+    private static ProductPageRow probe(ProductSort sort, ProductCursor cursor) {
+        return switch (sort) {
+            case NAME -> new ProductPageRow(cursor.id(), "", cursor.key(), null, null, BigDecimal.ZERO, null);
+            case PRICE_ASC, PRICE_DESC -> priceProbe(cursor.priceKey(), cursor.id());
+        };
+    }
+
+    private static ProductPageRow priceProbe(BigDecimal price, Long id) {
+        return new ProductPageRow(id, "", "", null, null, price, null);
+    }
+
+    private record Snapshot(
+            List<ProductPageRow> byName, List<ProductPageRow> byPrice, Map<String, ProductPageRow> byCode) {
+        static Snapshot of(List<ProductPageRow> byName, List<ProductPageRow> byPrice) {
+            Map<String, ProductPageRow> byCode = new HashMap<>(byName.size() * 2);
+            for (ProductPageRow row : byName) {
+                byCode.put(row.product().code(), row);
+            }
+            return new Snapshot(List.copyOf(byName), List.copyOf(byPrice), Map.copyOf(byCode));
+        }
+    }
+}
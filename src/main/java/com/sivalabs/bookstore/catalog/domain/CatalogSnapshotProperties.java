@@ -0,0 +1,6 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.catalog.snapshot")
+record CatalogSnapshotProperties(boolean enabled) {}
@@ -0,0 +1,36 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Catalog-wide version, bumped once by every transaction that writes products, in commit order. Kept in memory so
+ * that conditional requests can be answered without a query; refreshed whenever a product change event is handled.
+ */
+@Component
+public class CatalogVersion {
+    private final ProductQueryRepository repo;
+    private volatile @Nullable Version current;
+
+    CatalogVersion(ProductQueryRepository repo) {
+        this.repo = repo;
+    }
+
+    public Version current() {
+        Version version = current;
+        return version != null ? version : refresh();
+    }
+
+    public Version refresh() {
+        Version version = repo.findCatalogVersion();
+        this.current = version;
+        return version;
+    }
+
+    /**
+     * @param number grows with every committed change, for entity tags
+     * @param lastModified commit time of the latest change, for {@code Last-Modified}
+     */
+    public record Version(long number, Instant lastModified) {}
+}
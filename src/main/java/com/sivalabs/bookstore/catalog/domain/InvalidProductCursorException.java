@@ -0,0 +1,11 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+public class InvalidProductCursorException extends RuntimeException {
+    public InvalidProductCursorException(String message) {
+        super(message);
+    }
+
+    public static InvalidProductCursorException of(String cursor) {
+        return new InvalidProductCursorException("Invalid product cursor: " + cursor);
+    }
+}
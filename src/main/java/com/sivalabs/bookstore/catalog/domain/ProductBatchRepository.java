@@ -0,0 +1,140 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class ProductBatchRepository {
+    // Must match the increment of catalog.product_id_seq, which Hibernate's pooled optimizer relies on as well
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private static final String UPSERT_SQL = """
+            insert into catalog.products (id, code, name, description, image_url, price)
+            values (?, ?, ?, ?, ?, ?)
+            on conflict (code) do update
+            set name = excluded.name,
+                description = excluded.description,
+                image_url = excluded.image_url,
+                price = excluded.price,
+                deleted_at = null,
+                updated_at = now()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcClient jdbcClient;
+
+    ProductBatchRepository(JdbcTemplate jdbcTemplate, JdbcClient jdbcClient) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Upserts the given products by code in a single JDBC batch. Codes must be unique within one call, since
+     * PostgreSQL rejects a rewritten multi-row insert that touches the same row twice. A soft-deleted product with
+     * one of the codes is restored, as codes stay unique across deleted products.
+     */
+    void upsertAll(Collection<CreateProductCmd> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+        Iterator<Long> ids = allocateIds(products.size()).iterator();
+        List<Object[]> rows = new ArrayList<>(products.size());
+        for (CreateProductCmd product : products) {
+            rows.add(new Object[] {
+                ids.next(), product.code(), product.name(), product.description(), product.imageUrl(), product.price()
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    // One nextval reserves the block (value - 49 .. value), the same range Hibernate would hand out for it
+    private List<Long> allocateIds(int count) {
+        int blocks = (count + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> blockEnds = jdbcTemplate.queryForList(
+                "select nextval('catalog.product_id_seq') from generate_series(1, ?)", Long.class, blocks);
+        List<Long> ids = new ArrayList<>(blocks * ID_BLOCK_SIZE);
+        for (Long blockEnd : blockEnds) {
+            for (long id = blockEnd - ID_BLOCK_SIZE + 1; id <= blockEnd; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Applies the change to the next {@code limit} matching live products with an id above {@code afterId}, in one
+     * UPDATE statement, and returns the ids of the updated products.
+     */
+    List<Long> updateChunk(ProductBulkUpdateCmd cmd, long afterId, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("afterId", afterId);
+        params.put("limit", limit);
+
+        StringBuilder filter = new StringBuilder("deleted_at is null and id > :afterId");
+        List<String> codes = cmd.codeList();
+        if (!codes.isEmpty()) {
+            filter.append(" and code = any(:codes)");
+            params.put("codes", codes.toArray(String[]::new));
+        }
+        String nameContains = cmd.nameContains();
+        if (nameContains != null && !nameContains.isBlank()) {
+            filter.append(" and name ilike :namePattern");
+            params.put("namePattern", "%" + escapeLike(nameContains.strip()) + "%");
+        }
+        BigDecimal minPrice = cmd.minPrice();
+        if (minPrice != null) {
+            filter.append(" and price >= :minPrice");
+            params.put("minPrice", minPrice);
+        }
+        BigDecimal maxPrice = cmd.maxPrice();
+        if (maxPrice != null) {
+            filter.append(" and price <= :maxPrice");
+            params.put("maxPrice", maxPrice);
+        }
+
+        StringBuilder changes = new StringBuilder("updated_at = now()");
+        BigDecimal pricePercentChange = cmd.pricePercentChange();
+        if (pricePercentChange != null) {
+            // Prices never drop below the 0.1 minimum enforced for single updates
+            changes.append(", price = greatest(round(p.price * (100 + :percent) / 100, 2), 0.1)");
+            params.put("percent", pricePercentChange);
+        }
+        String description = cmd.description();
+        if (description != null && !description.isBlank()) {
+            changes.append(", description = :description");
+            params.put("description", description);
+        }
+        String imageUrl = cmd.imageUrl();
+        if (imageUrl != null && !imageUrl.isBlank()) {
+            changes.append(", image_url = :imageUrl");
+            params.put("imageUrl", imageUrl);
+        }
+
+        String sql = """
+                with chunk as (
+                    select id from catalog.products
+                    where %s
+                    order by id
+                    limit :limit
+                )
+                update catalog.products p
+                set %s
+                from chunk
+                where p.id = chunk.id
+                returning p.id
+                """.formatted(filter, changes);
+        return jdbcClient.sql(sql).params(params).query(Long.class).list();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,49 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Change applied to many live products at once. Products are selected either by a list of codes (separated by
+ * commas or whitespace) or by the name and price filters; blank fields are ignored.
+ */
+public record ProductBulkUpdateCmd(
+        @Nullable String codes,
+        @Nullable String nameContains,
+        @Nullable BigDecimal minPrice,
+        @Nullable BigDecimal maxPrice,
+
+        @Nullable @DecimalMin(value = "-90", message = "Price change must be at least -90%") @DecimalMax(value = "1000", message = "Price change must be at most 1000%") BigDecimal pricePercentChange,
+
+        @Nullable String description,
+        @Nullable String imageUrl) {
+    private static final Pattern CODE_SEPARATORS = Pattern.compile("[\\s,]+");
+
+    public List<String> codeList() {
+        String value = codes;
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(CODE_SEPARATORS.split(value.strip()))
+                .filter(code -> !code.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    @AssertTrue(message = "Enter product codes or at least one filter")
+    public boolean isSelective() {
+        return !codeList().isEmpty() || StringUtils.hasText(nameContains) || minPrice != null || maxPrice != null;
+    }
+
+    @AssertTrue(message = "Enter a price change, a description or an image URL")
+    public boolean isChanging() {
+        return pricePercentChange != null || StringUtils.hasText(description) || StringUtils.hasText(imageUrl);
+    }
+}
@@ -0,0 +1,5 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import java.time.Duration;
+
+public record ProductBulkUpdateResult(long updatedProducts, Duration duration) {}
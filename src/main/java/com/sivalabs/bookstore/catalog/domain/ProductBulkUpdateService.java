@@ -0,0 +1,61 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductsBulkChangedEvent;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class ProductBulkUpdateService {
+    private static final Logger log = LoggerFactory.getLogger(ProductBulkUpdateService.class);
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ProductBatchRepository batchRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    ProductBulkUpdateService(
+            ProductBatchRepository batchRepo,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher) {
+        this.batchRepo = batchRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Applies the change with one set-based UPDATE per {@value #CHUNK_SIZE} matching products, walking them in id
+     * order and committing each chunk on its own. A single {@link ProductsBulkChangedEvent} is published at the end
+     * instead of one event per product.
+     */
+    public ProductBulkUpdateResult updateProducts(ProductBulkUpdateCmd cmd) {
+        long start = System.nanoTime();
+        long updated = 0;
+        long afterId = 0;
+        try {
+            List<Long> ids;
+            do {
+                long from = afterId;
+                ids = transactionTemplate.execute(status -> batchRepo.updateChunk(cmd, from, CHUNK_SIZE));
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                updated += ids.size();
+                afterId = ids.stream().mapToLong(Long::longValue).max().orElse(afterId);
+            } while (ids.size() == CHUNK_SIZE);
+        } finally {
+            if (updated > 0) {
+                long changed = updated;
+                transactionTemplate.executeWithoutResult(
+                        status -> eventPublisher.publishEvent(new ProductsBulkChangedEvent(changed)));
+            }
+        }
+        var result = new ProductBulkUpdateResult(updated, Duration.ofNanos(System.nanoTime() - start));
+        log.info("Bulk updated {} products in {} ms", result.updatedProducts(), result.duration().toMillis());
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductDto;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductCache {
+    static final String NAME = "products";
+
+    private final CacheManager cacheManager;
+
+    ProductCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /** Returns the cached products for the given codes; codes that are not cached or cached as missing are absent. */
+    public Map<String, ProductDto> getAll(Collection<String> codes) {
+        Map<String, ProductDto> products = new HashMap<>();
+        Cache cache = cacheManager.getCache(NAME);
+        if (cache != null) {
+            for (String code : codes) {
+                ProductDto product = cache.get(code, ProductDto.class);
+                if (product != null) {
+                    products.put(code, product);
+                }
+            }
+        }
+        return products;
+    }
+
+    public void put(ProductDto product) {
+        Cache cache = cacheManager.getCache(NAME);
+        if (cache != null) {
+            cache.putIfAbsent(product.code(), product);
+        }
+    }
+
+    public void evict(String code) {
+        Cache cache = cacheManager.getCache(NAME);
+        if (cache != null) {
+            cache.evict(code);
+        }
+    }
+
+    public void clear() {
+        Cache cache = cacheManager.getCache(NAME);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
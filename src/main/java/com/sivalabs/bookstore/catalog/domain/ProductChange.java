@@ -0,0 +1,21 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductDto;
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One entry of the catalog change feed: the current state of a product, or a tombstone (without the product) when
+ * it has been soft-deleted.
+ */
+public record ProductChange(
+        long version, String code, boolean deleted, @Nullable Instant deletedAt, @Nullable ProductDto product) {
+
+    static ProductChange of(long version, ProductDto product) {
+        Instant deletedAt = product.deletedAt();
+        if (deletedAt != null) {
+            return new ProductChange(version, product.code(), true, deletedAt, null);
+        }
+        return new ProductChange(version, product.code(), false, null, product);
+    }
+}
@@ -0,0 +1,64 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Incremental pulls of catalog changes. Clients start from version 0 and pass the version returned by {@link
+ * #currentVersion()} as {@code since} on their next pull; every product changed in between is sent once, in its
+ * latest state.
+ */
+@Service
+public class ProductChangeFeedService {
+    private static final Logger log = LoggerFactory.getLogger(ProductChangeFeedService.class);
+
+    private final ProductQueryRepository queryRepo;
+    private final JsonMapper jsonMapper;
+
+    ProductChangeFeedService(ProductQueryRepository queryRepo, JsonMapper jsonMapper) {
+        this.queryRepo = queryRepo;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Versions below the returned one belong to finished transactions only, so no change below it can show up
+     * later.
+     */
+    @Transactional(readOnly = true)
+    public long currentVersion() {
+        return queryRepo.findChangeWatermark();
+    }
+
+    /** Writes changes with {@code since <= version < until} as NDJSON, in version order. */
+    @Transactional(readOnly = true)
+    public long streamChanges(OutputStream output, long since, long until) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        AtomicLong count = new AtomicLong();
+        try {
+            queryRepo.forEachChange(since, until, change -> {
+                try {
+                    writer.write(jsonMapper.writeValueAsString(change) + "\n");
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count.incrementAndGet();
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Streamed {} product changes in [{}, {})", count.get(), since, until);
+        return count.get();
+    }
+}
@@ -0,0 +1,47 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+
+/**
+ * Position of the last product of a page in a {@link ProductSort} listing order, encoded as an opaque URL-safe token.
+ * The key is the product's name or price, depending on the order.
+ */
+record ProductCursor(String key, Long id) {
+
+    static ProductCursor of(ProductPageRow row, ProductSort sort) {
+        String key = switch (sort) {
+            case NAME -> row.product().name();
+            case PRICE_ASC, PRICE_DESC -> row.product().price().toPlainString();
+        };
+        return new ProductCursor(key, row.id());
+    }
+
+    BigDecimal priceKey() {
+        try {
+            return new BigDecimal(key);
+        } catch (NumberFormatException e) {
+            throw InvalidProductCursorException.of(encode());
+        }
+    }
+
+    String encode() {
+        String value = id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(UTF_8));
+    }
+
+    static ProductCursor decode(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            int separator = value.indexOf(':');
+            if (separator < 1) {
+                throw InvalidProductCursorException.of(cursor);
+            }
+            return new ProductCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            throw InvalidProductCursorException.of(cursor);
+        }
+    }
+}
@@ -39,6 +39,9 @@ class ProductEntity {
     @Nullable @Column(name = "deleted_at")
     private Instant deletedAt;
 
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt = Instant.now();
+
     public Long getId() {
         return id;
     }
@@ -94,4 +97,12 @@ class ProductEntity {
     public void setDeletedAt(@Nullable Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,89 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductDto;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+@Service
+public class ProductExportService {
+    private static final Logger log = LoggerFactory.getLogger(ProductExportService.class);
+    private static final String CSV_HEADER = "code,name,description,image_url,price,deleted_at\n";
+
+    private final ProductQueryRepository queryRepo;
+    private final JsonMapper jsonMapper;
+
+    ProductExportService(ProductQueryRepository queryRepo, JsonMapper jsonMapper) {
+        this.queryRepo = queryRepo;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Writes every product to the given stream while reading them through a server-side cursor, so memory use does
+     * not depend on the catalog size. The read-only transaction is what lets the driver fetch in batches.
+     */
+    @Transactional(readOnly = true)
+    public long exportProducts(OutputStream output, ProductExportFormat format, boolean includeDeleted) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        AtomicLong count = new AtomicLong();
+        try {
+            if (format == ProductExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+            }
+            queryRepo.forEachProduct(includeDeleted, product -> {
+                try {
+                    switch (format) {
+                        case CSV -> writeCsv(writer, product);
+                        case NDJSON -> writer.write(jsonMapper.writeValueAsString(product) + "\n");
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count.incrementAndGet();
+            });
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Exported {} products as {}", count.get(), format);
+        return count.get();
+    }
+
+    private static void writeCsv(Writer writer, ProductDto product) throws IOException {
+        writer.write(csvField(product.code()));
+        writer.write(',');
+        writer.write(csvField(product.name()));
+        writer.write(',');
+        writer.write(csvField(product.description()));
+        writer.write(',');
+        writer.write(csvField(product.imageUrl()));
+        writer.write(',');
+        writer.write(product.price().toPlainString());
+        writer.write(',');
+        Instant deletedAt = product.deletedAt();
+        writer.write(deletedAt == null ? "" : deletedAt.toString());
+        writer.write('\n');
+    }
+
+    private static String csvField(@Nullable String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,19 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductDto;
+import java.math.BigDecimal;
+import org.jspecify.annotations.Nullable;
+
+/** Optional, inclusive price band for storefront listings. */
+public record ProductFilter(@Nullable BigDecimal minPrice, @Nullable BigDecimal maxPrice) {
+    public static final ProductFilter NONE = new ProductFilter(null, null);
+
+    public boolean isEmpty() {
+        return minPrice == null && maxPrice == null;
+    }
+
+    boolean matches(ProductDto product) {
+        return (minPrice == null || product.price().compareTo(minPrice) >= 0)
+                && (maxPrice == null || product.price().compareTo(maxPrice) <= 0);
+    }
+}
@@ -0,0 +1,3 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+public record ProductImportError(long lineNumber, String message) {}
@@ -0,0 +1,19 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+public class ProductImportException extends RuntimeException {
+    public ProductImportException(String message) {
+        super(message);
+    }
+
+    public ProductImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static ProductImportException missingColumns(String columns) {
+        return new ProductImportException("CSV header is missing required columns: " + columns);
+    }
+
+    public static ProductImportException readFailed(Throwable cause) {
+        return new ProductImportException("Failed to read product import file", cause);
+    }
+}
@@ -0,0 +1,16 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import java.util.Locale;
+
+public enum ProductImportFormat {
+    CSV,
+    NDJSON;
+
+    public static ProductImportFormat fromFilename(String filename) {
+        String name = filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        return CSV;
+    }
+}
@@ -0,0 +1,174 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads one product row at a time from an import file so that arbitrarily large files can be processed with constant
+ * memory. Malformed rows are returned as invalid rows instead of aborting the import.
+ */
+abstract class ProductImportReader {
+    protected final BufferedReader reader;
+    protected long lineNumber = 0;
+
+    ProductImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static ProductImportReader of(ProductImportFormat format, BufferedReader reader, JsonMapper jsonMapper)
+            throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(reader);
+            case NDJSON -> new NdJson(reader, jsonMapper);
+        };
+    }
+
+    /** Returns the next row, or {@code null} at the end of the input. */
+    abstract @Nullable ProductImportRow next() throws IOException;
+
+    private static final class NdJson extends ProductImportReader {
+        private final JsonMapper jsonMapper;
+
+        NdJson(BufferedReader reader, JsonMapper jsonMapper) {
+            super(reader);
+            this.jsonMapper = jsonMapper;
+        }
+
+        @Override
+        @Nullable ProductImportRow next() throws IOException {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    return ProductImportRow.valid(lineNumber, jsonMapper.readValue(line, CreateProductCmd.class));
+                } catch (JacksonException e) {
+                    return ProductImportRow.invalid(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    /** RFC 4180 CSV with a header row; quoted fields may contain commas, quotes and line breaks. */
+    private static final class Csv extends ProductImportReader {
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        Csv(BufferedReader reader) throws IOException {
+            super(reader);
+            List<String> header = readRecord();
+            if (header != null) {
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(normalizeColumn(header.get(i)), i);
+                }
+            }
+            List<String> missing = List.of("code", "name", "price").stream()
+                    .filter(column -> !columns.containsKey(column))
+                    .toList();
+            if (!missing.isEmpty()) {
+                throw ProductImportException.missingColumns(String.join(", ", missing));
+            }
+        }
+
+        @Override
+        @Nullable ProductImportRow next() throws IOException {
+            List<String> fields;
+            long startLine;
+            do {
+                startLine = lineNumber + 1;
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.getFirst().isBlank());
+
+            String price = field(fields, "price");
+            if (price == null) {
+                return ProductImportRow.invalid(startLine, "Product price is required");
+            }
+            BigDecimal parsedPrice;
+            try {
+                parsedPrice = new BigDecimal(price);
+            } catch (NumberFormatException e) {
+                return ProductImportRow.invalid(startLine, "Invalid price: " + price);
+            }
+            String code = field(fields, "code");
+            String name = field(fields, "name");
+            var product = new CreateProductCmd(
+                    code == null ? "" : code,
+                    name == null ? "" : name,
+                    field(fields, "description"),
+                    field(fields, "imageurl"),
+                    parsedPrice);
+            return ProductImportRow.valid(startLine, product);
+        }
+
+        private @Nullable String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).strip();
+            return value.isEmpty() ? null : value;
+        }
+
+        private @Nullable List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    String nextLine = quoted ? reader.readLine() : null;
+                    if (nextLine == null) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    lineNumber++;
+                    field.append('\n');
+                    line = nextLine;
+                    i = 0;
+                    continue;
+                }
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+        }
+
+        private static String normalizeColumn(String column) {
+            return column.replace("\uFEFF", "").strip().replace("_", "").toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} holds at most the first few failed rows, {@code failedRows} counts them
+ * all.
+ */
+public record ProductImportResult(
+        long processedRows, long importedRows, long failedRows, List<ProductImportError> errors, Duration duration) {
+
+    public long rowsPerSecond() {
+        long millis = Math.max(duration.toMillis(), 1);
+        return processedRows * 1000 / millis;
+    }
+}
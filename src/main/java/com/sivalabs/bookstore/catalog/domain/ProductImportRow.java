@@ -0,0 +1,14 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import org.jspecify.annotations.Nullable;
+
+record ProductImportRow(long lineNumber, @Nullable CreateProductCmd product, @Nullable String error) {
+
+    static ProductImportRow valid(long lineNumber, CreateProductCmd product) {
+        return new ProductImportRow(lineNumber, product, null);
+    }
+
+    static ProductImportRow invalid(long lineNumber, String error) {
+        return new ProductImportRow(lineNumber, null, error);
+    }
+}
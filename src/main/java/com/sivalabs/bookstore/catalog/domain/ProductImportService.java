@@ -0,0 +1,133 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductsBulkChangedEvent;
+import com.sivalabs.bookstore.common.paging.PageTotals;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+@Service
+public class ProductImportService {
+    private static final Logger log = LoggerFactory.getLogger(ProductImportService.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final int PROGRESS_LOG_INTERVAL = 50_000;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ProductBatchRepository batchRepo;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final PageTotals pageTotals;
+    private final ApplicationEventPublisher eventPublisher;
+
+    ProductImportService(
+            ProductBatchRepository batchRepo,
+            Validator validator,
+            JsonMapper jsonMapper,
+            TransactionTemplate transactionTemplate,
+            PageTotals pageTotals,
+            ApplicationEventPublisher eventPublisher) {
+        this.batchRepo = batchRepo;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.pageTotals = pageTotals;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Streams the input and upserts valid rows by code, committing every {@value #BATCH_SIZE} rows so that a large
+     * feed neither holds a long transaction nor loads into memory. Only products of committed batches count as
+     * imported, once per code within a batch. A single {@link ProductsBulkChangedEvent} is published at the end
+     * instead of one event per product. Soft-deleted products are restored when the feed contains their code.
+     */
+    public ProductImportResult importProducts(InputStream input, ProductImportFormat format) {
+        long start = System.nanoTime();
+        long processed = 0;
+        long imported = 0;
+        long failed = 0;
+        List<ProductImportError> errors = new ArrayList<>();
+        // Later rows with the same code win, and a batch must not touch one row twice
+        Map<String, CreateProductCmd> batch = new LinkedHashMap<>();
+        try (var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            ProductImportReader rows = ProductImportReader.of(format, reader, jsonMapper);
+            ProductImportRow row;
+            while ((row = rows.next()) != null) {
+                processed++;
+                CreateProductCmd product = row.product();
+                String error = product == null ? row.error() : validate(product);
+                if (product == null || error != null) {
+                    failed++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new ProductImportError(row.lineNumber(), error == null ? "Invalid row" : error));
+                    }
+                    continue;
+                }
+                batch.put(product.code(), product);
+                if (batch.size() == BATCH_SIZE) {
+                    imported += flush(batch);
+                }
+                if (processed % PROGRESS_LOG_INTERVAL == 0) {
+                    log.info("Product import progress: {} rows processed, {} failed", processed, failed);
+                }
+            }
+            imported += flush(batch);
+        } catch (IOException e) {
+            throw ProductImportException.readFailed(e);
+        } finally {
+            // Batches committed before a failure stay imported, so caches must still catch up with them
+            if (imported > 0) {
+                pageTotals.invalidate(ProductService.COUNT_NAME);
+                long changed = imported;
+                transactionTemplate.executeWithoutResult(
+                        status -> eventPublisher.publishEvent(new ProductsBulkChangedEvent(changed)));
+            }
+        }
+        var result = new ProductImportResult(
+                processed, imported, failed, List.copyOf(errors), Duration.ofNanos(System.nanoTime() - start));
+        log.info(
+                "Product import finished: {} rows processed, {} imported, {} failed in {} ms ({} rows/sec)",
+                result.processedRows(),
+                result.importedRows(),
+                result.failedRows(),
+                result.duration().toMillis(),
+                result.rowsPerSecond());
+        return result;
+    }
+
+    private int flush(Map<String, CreateProductCmd> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> batchRepo.upsertAll(batch.values()));
+        int upserted = batch.size();
+        batch.clear();
+        return upserted;
+    }
+
+    private @Nullable String validate(CreateProductCmd product) {
+        Set<ConstraintViolation<CreateProductCmd>> violations = validator.validate(product);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,22 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductDto;
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.jspecify.annotations.Nullable;
+
+/** Keyset listing row: the product plus the id needed to build the next cursor. */
+record ProductPageRow(Long id, ProductDto product) {
+
+    // Used by JPQL constructor expressions
+    ProductPageRow(
+            Long id,
+            String code,
+            String name,
+            @Nullable String description,
+            @Nullable String imageUrl,
+            BigDecimal price,
+            @Nullable Instant deletedAt) {
+        this(id, new ProductDto(code, name, description, imageUrl, price, deletedAt));
+    }
+}
@@ -0,0 +1,189 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import com.sivalabs.bookstore.catalog.ProductDto;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+class ProductQueryRepository {
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final JdbcClient jdbcClient;
+    private final JdbcClient streamingJdbcClient;
+
+    ProductQueryRepository(JdbcClient jdbcClient, DataSource dataSource) {
+        this.jdbcClient = jdbcClient;
+        // PostgreSQL only fetches in batches of the fetch size when called inside a transaction
+        JdbcTemplate streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamingJdbcClient = JdbcClient.create(streamingJdbcTemplate);
+    }
+
+    // The window count is computed over all matches before LIMIT, so a page and its total come from one query
+    Page<ProductDto> search(String query, Pageable pageable) {
+        List<SearchHit> hits = jdbcClient
+                .sql("""
+                    select p.code, p.name, p.description, p.image_url, p.price, p.deleted_at,
+                           count(*) over () as total
+                    from catalog.products p, websearch_to_tsquery('english', :query) q
+                    where p.deleted_at is null and p.search_vector @@ q
+                    order by ts_rank(p.search_vector, q) desc, p.id
+                    limit :limit offset :offset
+                    """)
+                .param("query", query)
+                .param("limit", pageable.getPageSize())
+                .param("offset", pageable.getOffset())
+                .query((rs, rowNum) -> new SearchHit(mapProduct(rs), rs.getLong("total")))
+                .list();
+        long total = hits.isEmpty() ? 0 : hits.getFirst().total();
+        return new PageImpl<>(hits.stream().map(SearchHit::product).toList(), pageable, total);
+    }
+
+    // Every sort order is backed by a partial index over live rows, (name, id) or (price, id); the keyset condition
+    // is a row comparison so that it becomes the start of an index range rather than a filter. Names compare in
+    // code point order (ucs_basic), the order of ProductSort and so of the catalog snapshot
+    @Transactional(readOnly = true)
+    List<ProductPageRow> findLivePage(
+            ProductFilter filter, ProductSort sort, @Nullable ProductCursor after, int limit) {
+        StringBuilder sql = new StringBuilder("""
+            select id, code, name, description, image_url, price, deleted_at
+            from catalog.products
+            where deleted_at is null
+            """);
+        Map<String, Object> params = new HashMap<>();
+        BigDecimal minPrice = filter.minPrice();
+        if (minPrice != null) {
+            sql.append(" and price >= :minPrice");
+            params.put("minPrice", minPrice);
+        }
+        BigDecimal maxPrice = filter.maxPrice();
+        if (maxPrice != null) {
+            sql.append(" and price <= :maxPrice");
+            params.put("maxPrice", maxPrice);
+        }
+        if (after != null) {
+            sql.append(
+                    switch (sort) {
+                        case NAME -> " and (name collate ucs_basic, id) > (:key, :id)";
+                        case PRICE_ASC -> " and (price, id) > (:key, :id)";
+                        case PRICE_DESC -> " and (price, id) < (:key, :id)";
+                    });
+            params.put("key", sort == ProductSort.NAME ? after.key() : after.priceKey());
+            params.put("id", after.id());
+        }
+        sql.append(
+                switch (sort) {
+                    case NAME -> " order by name collate ucs_basic, id";
+                    case PRICE_ASC -> " order by price, id";
+                    case PRICE_DESC -> " order by price desc, id desc";
+                });
+        sql.append(" limit :limit");
+        params.put("limit", limit);
+        return jdbcClient
+                .sql(sql.toString())
+                .params(params)
+                .query((rs, rowNum) -> new ProductPageRow(rs.getLong("id"), mapProduct(rs)))
+                .list();
+    }
+
+    List<ProductDto> findLiveByCodes(Collection<String> codes) {
+        return jdbcClient
+                .sql("""
+                    select code, name, description, image_url, price, deleted_at
+                    from catalog.products
+                    where code = any(:codes) and deleted_at is null
+                    """)
+                .param("codes", codes.toArray(String[]::new))
+                .query((rs, rowNum) -> mapProduct(rs))
+                .list();
+    }
+
+    void forEachLiveProduct(BiConsumer<String, String> codeAndNameConsumer) {
+        streamingJdbcClient
+                .sql("select code, name from catalog.products where deleted_at is null")
+                .query(rs -> {
+                    codeAndNameConsumer.accept(rs.getString("code"), rs.getString("name"));
+                });
+    }
+
+    void forEachLiveProductRow(Consumer<ProductPageRow> consumer) {
+        streamingJdbcClient
+                .sql("""
+                    select id, code, name, description, image_url, price, deleted_at
+                    from catalog.products
+                    where deleted_at is null
+                    """)
+                .query(rs -> {
+                    consumer.accept(new ProductPageRow(rs.getLong("id"), mapProduct(rs)));
+                });
+    }
+
+    void forEachProduct(boolean includeDeleted, Consumer<ProductDto> consumer) {
+        String sql = "select code, name, description, image_url, price, deleted_at from catalog.products"
+                + (includeDeleted ? "" : " where deleted_at is null")
+                + " order by id";
+        streamingJdbcClient.sql(sql).query(rs -> {
+            consumer.accept(mapProduct(rs));
+        });
+    }
+
+    CatalogVersion.Version findCatalogVersion() {
+        return jdbcClient
+                .sql("select version, last_modified from catalog.catalog_version")
+                .query((rs, rowNum) -> new CatalogVersion.Version(
+                        rs.getLong("version"), rs.getTimestamp("last_modified").toInstant()))
+                .single();
+    }
+
+    long findChangeWatermark() {
+        return jdbcClient
+                .sql("select pg_snapshot_xmin(pg_current_snapshot())::text::bigint")
+                .query(Long.class)
+                .single();
+    }
+
+    void forEachChange(long since, long until, Consumer<ProductChange> consumer) {
+        streamingJdbcClient
+                .sql("""
+                    select code, name, description, image_url, price, deleted_at, change_version
+                    from catalog.products
+                    where change_version >= :since and change_version < :until
+                    order by change_version, id
+                    """)
+                .param("since", since)
+                .param("until", until)
+                .query(rs -> {
+                    consumer.accept(ProductChange.of(rs.getLong("change_version"), mapProduct(rs)));
+                });
+    }
+
+    static ProductDto mapProduct(ResultSet rs) throws SQLException {
+        Timestamp deletedAt = rs.getTimestamp("deleted_at");
+        return new ProductDto(
+                rs.getString("code"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getString("image_url"),
+                rs.getBigDecimal("price"),
+                deletedAt == null ? null : deletedAt.toInstant());
+    }
+
+    private record SearchHit(ProductDto product, long total) {}
+}
@@ -1,9 +1,12 @@
 package com.sivalabs.bookstore.catalog.domain;
 
+import com.sivalabs.bookstore.catalog.ProductDto;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 interface ProductRepository extends JpaRepository<ProductEntity, Long> {
 
@@ -11,7 +14,46 @@ interface ProductRepository extends JpaRepository<ProductEntity, Long> {
 
     boolean existsByCode(String code);
 
-    Optional<ProductEntity> findByCodeAndDeletedAtIsNull(String code);
+    // Read paths project straight into DTOs, skipping entity hydration and dirty-checking snapshots
 
-    Page<ProductEntity> findAllByDeletedAtIsNull(Pageable pageable);
+    @Query("""
+        select new com.sivalabs.bookstore.catalog.ProductDto(
+            p.code, p.name, p.description, p.imageUrl, p.price, p.deletedAt)
+        from ProductEntity p
+        where p.code = :code and p.deletedAt is null
+        """)
+    Optional<ProductDto> findLiveProductByCode(String code);
+
+    @Query("""
+        select new com.sivalabs.bookstore.catalog.ProductDto(
+            p.code, p.name, p.description, p.imageUrl, p.price, p.deletedAt)
+        from ProductEntity p
+        where p.code = :code
+        """)
+    Optional<ProductDto> findProductByCode(String code);
+
+    @Query(value = """
+        select new com.sivalabs.bookstore.catalog.ProductDto(
+            p.code, p.name, p.description, p.imageUrl, p.price, p.deletedAt)
+        from ProductEntity p
+        where p.deletedAt is null
+        order by collate(p.name as ucs_basic), p.id
+        """, countQuery = "select count(p) from ProductEntity p where p.deletedAt is null")
+    Page<ProductDto> findLiveProducts(Pageable pageable);
+
+    // Returned as a Slice so that no count query runs; PageTotals supplies the total
+    @Query("""
+        select new com.sivalabs.bookstore.catalog.ProductDto(
+            p.code, p.name, p.description, p.imageUrl, p.price, p.deletedAt)
+        from ProductEntity p
+        """)
+    Slice<ProductDto> findAllProducts(Pageable pageable);
+
+    @Query("""
+        select new com.sivalabs.bookstore.catalog.domain.ProductPageRow(
+            p.id, p.code, p.name, p.description, p.imageUrl, p.price, p.deletedAt)
+        from ProductEntity p
+        where p.code = :code and p.deletedAt is null
+        """)
+    Optional<ProductPageRow> findLivePageRowByCode(String code);
 }
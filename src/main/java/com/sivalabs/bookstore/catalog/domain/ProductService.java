@@ -1,10 +1,22 @@
 package com.sivalabs.bookstore.catalog.domain;
 
+import com.sivalabs.bookstore.catalog.ProductChangedEvent;
 import com.sivalabs.bookstore.catalog.ProductDto;
+import com.sivalabs.bookstore.common.models.CursorPagedResult;
 import com.sivalabs.bookstore.common.models.PagedResult;
+import com.sivalabs.bookstore.common.paging.CountQuery;
+import com.sivalabs.bookstore.common.paging.PageTotals;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -14,26 +26,105 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class ProductService {
     private static final int PRODUCT_PAGE_SIZE = 10;
+    private static final int SUGGESTIONS_LIMIT = 8;
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+    static final String COUNT_NAME = "products";
     private final ProductRepository repo;
+    private final ProductQueryRepository queryRepo;
     private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final ProductSuggestionIndex suggestionIndex;
+    private final CatalogSnapshot catalogSnapshot;
+    private final PageTotals pageTotals;
+    private final ApplicationEventPublisher eventPublisher;
 
-    ProductService(ProductRepository repo, ProductMapper productMapper) {
+    ProductService(
+            ProductRepository repo,
+            ProductQueryRepository queryRepo,
+            ProductMapper productMapper,
+            ProductCache productCache,
+            ProductSuggestionIndex suggestionIndex,
+            CatalogSnapshot catalogSnapshot,
+            PageTotals pageTotals,
+            ApplicationEventPublisher publisher) {
         this.repo = repo;
+        this.queryRepo = queryRepo;
         this.productMapper = productMapper;
+        this.productCache = productCache;
+        this.suggestionIndex = suggestionIndex;
+        this.catalogSnapshot = catalogSnapshot;
+        this.pageTotals = pageTotals;
+        this.eventPublisher = publisher;
     }
 
-    @Transactional(readOnly = true)
+    // Storefront reads are not @Transactional so that snapshot hits never check out a connection;
+    // each repository call runs in its own read-only transaction.
+
+    // Ordered by name and id like the keyset listing; see ProductSort
     public PagedResult<ProductDto> getProducts(int pageNo) {
-        Sort sort = Sort.by("name").ascending();
         int page = pageNo <= 1 ? 0 : pageNo - 1;
-        Pageable pageable = PageRequest.of(page, PRODUCT_PAGE_SIZE, sort);
-        Page<ProductDto> productsPage = repo.findAllByDeletedAtIsNull(pageable).map(productMapper::mapToDto);
-        return new PagedResult<>(productsPage);
+        Pageable pageable = PageRequest.of(page, PRODUCT_PAGE_SIZE);
+        if (catalogSnapshot.isActive()) {
+            return new PagedResult<>(catalogSnapshot.findLiveProducts(pageable));
+        }
+        return new PagedResult<>(repo.findLiveProducts(pageable));
+    }
+
+    public CursorPagedResult<ProductDto> getProductsAfter(@Nullable String cursor) {
+        return getProductsAfter(cursor, ProductFilter.NONE, ProductSort.NAME);
+    }
+
+    public CursorPagedResult<ProductDto> getProductsAfter(
+            @Nullable String cursor, ProductFilter filter, ProductSort sort) {
+        int limit = PRODUCT_PAGE_SIZE + 1;
+        ProductCursor after = cursor == null ? null : ProductCursor.decode(cursor);
+        List<ProductPageRow> rows = catalogSnapshot.isActive()
+                ? catalogSnapshot.findLivePage(filter, sort, after, limit)
+                : queryRepo.findLivePage(filter, sort, after, limit);
+        boolean hasNext = rows.size() > PRODUCT_PAGE_SIZE;
+        List<ProductPageRow> page = hasNext ? rows.subList(0, PRODUCT_PAGE_SIZE) : rows;
+        String nextCursor = hasNext ? ProductCursor.of(page.getLast(), sort).encode() : null;
+        return new CursorPagedResult<>(
+                page.stream().map(ProductPageRow::product).toList(), nextCursor, cursor == null);
     }
 
     @Transactional(readOnly = true)
+    public PagedResult<ProductDto> searchProducts(String query, int pageNo) {
+        int page = pageNo <= 1 ? 0 : pageNo - 1;
+        Pageable pageable = PageRequest.of(page, PRODUCT_PAGE_SIZE);
+        return new PagedResult<>(queryRepo.search(query, pageable));
+    }
+
+    public List<ProductSuggestion> suggestProducts(String prefix) {
+        return suggestionIndex.suggest(prefix, SUGGESTIONS_LIMIT);
+    }
+
+    @Cacheable(cacheNames = ProductCache.NAME, key = "#code")
     public Optional<ProductDto> getByCode(String code) {
-        return repo.findByCodeAndDeletedAtIsNull(code).map(productMapper::mapToDto);
+        if (catalogSnapshot.isActive()) {
+            return catalogSnapshot.findLiveProductByCode(code);
+        }
+        return repo.findLiveProductByCode(code);
+    }
+
+    /**
+     * Looks up live products by code, serving what it can from the near-cache and loading the rest with one
+     * {@code = any(array)} query per {@value #LOOKUP_CHUNK_SIZE} codes. Unknown or deleted codes are absent from the
+     * result.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, ProductDto> getByCodes(Collection<String> codes) {
+        Set<String> uniqueCodes = new LinkedHashSet<>(codes);
+        Map<String, ProductDto> products = productCache.getAll(uniqueCodes);
+        List<String> misses = uniqueCodes.stream().filter(code -> !products.containsKey(code)).toList();
+        for (int from = 0; from < misses.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = misses.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, misses.size()));
+            for (ProductDto product : queryRepo.findLiveByCodes(chunk)) {
+                products.put(product.code(), product);
+                productCache.put(product);
+            }
+        }
+        return Collections.unmodifiableMap(products);
     }
 
     @Transactional(readOnly = true)
@@ -41,13 +132,13 @@ public class ProductService {
         Sort sort = Sort.by("name").ascending();
         int page = pageNo <= 1 ? 0 : pageNo - 1;
         Pageable pageable = PageRequest.of(page, PRODUCT_PAGE_SIZE, sort);
-        Page<ProductDto> productsPage = repo.findAll(pageable).map(productMapper::mapToDto);
-        return new PagedResult<>(productsPage);
+        return pageTotals.toPagedResult(
+                repo.findAllProducts(pageable), CountQuery.ofTable(COUNT_NAME, "catalog.products", repo::count));
     }
 
     @Transactional(readOnly = true)
     public Optional<ProductDto> getByCodeAdmin(String code) {
-        return repo.findByCode(code).map(productMapper::mapToDto);
+        return repo.findProductByCode(code);
     }
 
     @Transactional
@@ -56,27 +147,42 @@ public class ProductService {
             throw DuplicateProductCodeException.forCode(request.code());
         }
         ProductEntity entity = productMapper.mapToEntity(request);
-        return productMapper.mapToDto(repo.save(entity));
+        ProductDto product = productMapper.mapToDto(repo.save(entity));
+        pageTotals.invalidate(COUNT_NAME);
+        eventPublisher.publishEvent(new ProductChangedEvent(product.code()));
+        return product;
     }
 
     @Transactional
     public ProductDto updateProduct(String code, UpdateProductCmd request) {
         ProductEntity entity = repo.findByCode(code).orElseThrow(() -> ProductNotFoundException.forCode(code));
         productMapper.updateEntity(entity, request);
-        return productMapper.mapToDto(repo.save(entity));
+        entity.setUpdatedAt(Instant.now());
+        ProductDto product = productMapper.mapToDto(repo.save(entity));
+        pageTotals.invalidate(COUNT_NAME);
+        eventPublisher.publishEvent(new ProductChangedEvent(code));
+        return product;
     }
 
     @Transactional
     public void deleteByCode(String code) {
         ProductEntity entity = repo.findByCode(code).orElseThrow(() -> ProductNotFoundException.forCode(code));
-        entity.setDeletedAt(Instant.now());
+        Instant now = Instant.now();
+        entity.setDeletedAt(now);
+        entity.setUpdatedAt(now);
         repo.save(entity);
+        pageTotals.invalidate(COUNT_NAME);
+        eventPublisher.publishEvent(new ProductChangedEvent(code));
     }
 
     @Transactional
     public ProductDto restoreByCode(String code) {
         ProductEntity entity = repo.findByCode(code).orElseThrow(() -> ProductNotFoundException.forCode(code));
         entity.setDeletedAt(null);
-        return productMapper.mapToDto(repo.save(entity));
+        entity.setUpdatedAt(Instant.now());
+        ProductDto product = productMapper.mapToDto(repo.save(entity));
+        pageTotals.invalidate(COUNT_NAME);
+        eventPublisher.publishEvent(new ProductChangedEvent(code));
+        return product;
     }
 }
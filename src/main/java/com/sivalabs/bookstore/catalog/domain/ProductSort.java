@@ -0,0 +1,39 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import java.util.Comparator;
+
+/** Storefront listing orders. Each one is a keyset order with the product id as tie-breaker. */
+public enum ProductSort {
+    NAME,
+    PRICE_ASC,
+    PRICE_DESC;
+
+    // Code point order, which is what the database's ucs_basic collation uses for names. String.compareTo
+    // compares UTF-16 units instead and the default collation is locale-aware, so neither matches the other
+    private static final Comparator<ProductPageRow> BY_NAME = Comparator.comparing(
+                    (ProductPageRow row) -> row.product().name(), ProductSort::compareCodePoints)
+            .thenComparing(ProductPageRow::id);
+    private static final Comparator<ProductPageRow> BY_PRICE =
+            Comparator.comparing((ProductPageRow row) -> row.product().price()).thenComparing(ProductPageRow::id);
+
+    Comparator<ProductPageRow> order() {
+        return switch (this) {
+            case NAME -> BY_NAME;
+            case PRICE_ASC -> BY_PRICE;
+            case PRICE_DESC -> BY_PRICE.reversed();
+        };
+    }
+
+    static int compareCodePoints(String a, String b) {
+        int i = 0;
+        while (i < a.length() && i < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(i);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+        }
+        return Integer.compare(a.length() - i, b.length() - i);
+    }
+}
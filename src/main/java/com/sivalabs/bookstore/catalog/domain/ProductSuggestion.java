@@ -0,0 +1,3 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+public record ProductSuggestion(String code, String name) {}
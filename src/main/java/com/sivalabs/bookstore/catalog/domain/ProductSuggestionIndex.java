@@ -0,0 +1,142 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * In-memory prefix index over normalized names and codes of live products, used to answer autocomplete requests
+ * without a database round trip. Reads are lock-free; writes are serialized and only happen on product changes.
+ */
+@Component
+public class ProductSuggestionIndex {
+    private static final Logger log = LoggerFactory.getLogger(ProductSuggestionIndex.class);
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final List<String> LEADING_ARTICLES = List.of("the ", "a ", "an ");
+    private static final char KEY_SEPARATOR = '\u0000';
+    // Approximate per-entry cost of a skip-list node, its map entry and the String/array headers of the key
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ProductRepository repo;
+    private final ProductQueryRepository queryRepo;
+    private volatile Index index = new Index();
+
+    ProductSuggestionIndex(ProductRepository repo, ProductQueryRepository queryRepo, MeterRegistry meterRegistry) {
+        this.repo = repo;
+        this.queryRepo = queryRepo;
+        Gauge.builder("catalog.product.suggestions.entries", this, i -> i.index.entries.size())
+                .description("Number of keys in the product autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder("catalog.product.suggestions.memory", this, i -> i.index.estimatedBytes.get())
+                .description("Estimated heap footprint of the product autocomplete index")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    // A new transaction because this also runs from after-commit listeners, where the old one is already completed
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized void rebuild() {
+        Index newIndex = new Index();
+        queryRepo.forEachLiveProduct((code, name) -> newIndex.add(code, name));
+        this.index = newIndex;
+        log.info(
+                "Built product suggestion index with {} keys (~{} bytes)",
+                newIndex.entries.size(),
+                newIndex.estimatedBytes.get());
+    }
+
+    public synchronized void refresh(String code) {
+        Index current = index;
+        current.remove(code);
+        repo.findLiveProductByCode(code).ifPresent(p -> current.add(p.code(), p.name()));
+    }
+
+    public List<ProductSuggestion> suggest(String prefix, int limit) {
+        String from = normalize(prefix);
+        if (from.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<String, ProductSuggestion> suggestions = new LinkedHashMap<>();
+        for (ProductSuggestion suggestion : index.entries
+                .subMap(from, true, from + Character.MAX_VALUE, false)
+                .values()) {
+            suggestions.putIfAbsent(suggestion.code(), suggestion);
+            if (suggestions.size() == limit) {
+                break;
+            }
+        }
+        return List.copyOf(suggestions.values());
+    }
+
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return WHITESPACE
+                .matcher(withoutDiacritics.toLowerCase(Locale.ROOT))
+                .replaceAll(" ")
+                .strip();
+    }
+
+    private static List<String> keysFor(String code, String name) {
+        String normalizedName = normalize(name);
+        List<String> terms = new ArrayList<>();
+        terms.add(normalizedName);
+        terms.add(normalize(code));
+        for (String article : LEADING_ARTICLES) {
+            if (normalizedName.startsWith(article)) {
+                terms.add(normalizedName.substring(article.length()));
+            }
+        }
+        return terms.stream().map(term -> term + KEY_SEPARATOR + code).toList();
+    }
+
+    private record IndexedProduct(ProductSuggestion suggestion, List<String> keys) {
+        long estimatedBytes() {
+            long bytes = 2L * (suggestion.code().length() + suggestion.name().length());
+            for (String key : keys) {
+                bytes += ENTRY_OVERHEAD_BYTES + 2L * key.length();
+            }
+            return bytes;
+        }
+    }
+
+    private static final class Index {
+        private final ConcurrentSkipListMap<String, ProductSuggestion> entries = new ConcurrentSkipListMap<>();
+        private final Map<String, IndexedProduct> productsByCode = new ConcurrentHashMap<>();
+        private final AtomicLong estimatedBytes = new AtomicLong();
+
+        void add(String code, String name) {
+            var product = new IndexedProduct(new ProductSuggestion(code, name), keysFor(code, name));
+            product.keys().forEach(key -> entries.put(key, product.suggestion()));
+            productsByCode.put(code, product);
+            estimatedBytes.addAndGet(product.estimatedBytes());
+        }
+
+        void remove(String code) {
+            IndexedProduct product = productsByCode.remove(code);
+            if (product != null) {
+                product.keys().forEach(entries::remove);
+                estimatedBytes.addAndGet(-product.estimatedBytes());
+            }
+        }
+    }
+}
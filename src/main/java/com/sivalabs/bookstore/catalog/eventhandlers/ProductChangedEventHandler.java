@@ -0,0 +1,92 @@
+package com.sivalabs.bookstore.catalog.eventhandlers;
+
+import com.sivalabs.bookstore.catalog.ProductChangedEvent;
+import com.sivalabs.bookstore.catalog.ProductsBulkChangedEvent;
+import com.sivalabs.bookstore.catalog.domain.CatalogSnapshot;
+import com.sivalabs.bookstore.catalog.domain.CatalogVersion;
+import com.sivalabs.bookstore.catalog.domain.ProductCache;
+import com.sivalabs.bookstore.catalog.domain.ProductSuggestionIndex;
+import com.sivalabs.bookstore.common.datasource.PrimaryReads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+class ProductChangedEventHandler {
+    private static final Logger log = LoggerFactory.getLogger(ProductChangedEventHandler.class);
+    private final ProductCache productCache;
+    private final ProductSuggestionIndex suggestionIndex;
+    private final CatalogVersion catalogVersion;
+    private final CatalogSnapshot catalogSnapshot;
+
+    ProductChangedEventHandler(
+            ProductCache productCache,
+            ProductSuggestionIndex suggestionIndex,
+            CatalogVersion catalogVersion,
+            CatalogSnapshot catalogSnapshot) {
+        this.productCache = productCache;
+        this.suggestionIndex = suggestionIndex;
+        this.catalogVersion = catalogVersion;
+        this.catalogSnapshot = catalogSnapshot;
+    }
+
+    @TransactionalEventListener
+    void handle(ProductChangedEvent event) {
+        log.debug("[Catalog]: Evicting product {} after local change", event.code());
+        refresh(event.code());
+    }
+
+    // Every instance binds its own anonymous queue so that changes made on other nodes reach all near-caches
+    @RabbitListener(
+            bindings =
+                    @QueueBinding(
+                            value = @Queue,
+                            exchange = @Exchange(value = "BookStoreExchange", type = ExchangeTypes.TOPIC),
+                            key = "catalog.products.changed"))
+    void handleRemote(ProductChangedEvent event) {
+        log.debug("[Catalog]: Evicting product {} after remote change", event.code());
+        refresh(event.code());
+    }
+
+    @TransactionalEventListener
+    void handle(ProductsBulkChangedEvent event) {
+        log.debug("[Catalog]: Clearing product caches after local bulk change of {} products", event.productCount());
+        rebuild();
+    }
+
+    @RabbitListener(
+            bindings =
+                    @QueueBinding(
+                            value = @Queue,
+                            exchange = @Exchange(value = "BookStoreExchange", type = ExchangeTypes.TOPIC),
+                            key = "catalog.products.bulk-changed"))
+    void handleRemote(ProductsBulkChangedEvent event) {
+        log.debug("[Catalog]: Clearing product caches after remote bulk change of {} products", event.productCount());
+        rebuild();
+    }
+
+    // The change has just committed and may not have reached the read replica yet
+    private void refresh(String code) {
+        PrimaryReads.run(() -> {
+            catalogSnapshot.refresh(code);
+            productCache.evict(code);
+            suggestionIndex.refresh(code);
+            catalogVersion.refresh();
+        });
+    }
+
+    private void rebuild() {
+        PrimaryReads.run(() -> {
+            catalogSnapshot.rebuild();
+            productCache.clear();
+            suggestionIndex.rebuild();
+            catalogVersion.refresh();
+        });
+    }
+}
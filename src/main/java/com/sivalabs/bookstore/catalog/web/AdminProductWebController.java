@@ -3,14 +3,28 @@ package com.sivalabs.bookstore.catalog.web;
 import com.sivalabs.bookstore.catalog.ProductDto;
 import com.sivalabs.bookstore.catalog.domain.CreateProductCmd;
 import com.sivalabs.bookstore.catalog.domain.DuplicateProductCodeException;
+import com.sivalabs.bookstore.catalog.domain.ProductBulkUpdateCmd;
+import com.sivalabs.bookstore.catalog.domain.ProductBulkUpdateService;
+import com.sivalabs.bookstore.catalog.domain.ProductChangeFeedService;
+import com.sivalabs.bookstore.catalog.domain.ProductExportFormat;
+import com.sivalabs.bookstore.catalog.domain.ProductExportService;
+import com.sivalabs.bookstore.catalog.domain.ProductImportException;
+import com.sivalabs.bookstore.catalog.domain.ProductImportFormat;
+import com.sivalabs.bookstore.catalog.domain.ProductImportService;
 import com.sivalabs.bookstore.catalog.domain.ProductNotFoundException;
 import com.sivalabs.bookstore.catalog.domain.ProductService;
 import com.sivalabs.bookstore.catalog.domain.UpdateProductCmd;
 import io.github.wimdeblauwe.htmx.spring.boot.mvc.HtmxRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -20,16 +34,32 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Controller
 @RequestMapping("/admin/catalog/products")
 class AdminProductWebController {
     private static final Logger log = LoggerFactory.getLogger(AdminProductWebController.class);
+    static final String CHANGE_VERSION_HEADER = "X-Catalog-Change-Version";
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ProductExportService productExportService;
+    private final ProductChangeFeedService productChangeFeedService;
+    private final ProductBulkUpdateService productBulkUpdateService;
 
-    AdminProductWebController(ProductService productService) {
+    AdminProductWebController(
+            ProductService productService,
+            ProductImportService productImportService,
+            ProductExportService productExportService,
+            ProductChangeFeedService productChangeFeedService,
+            ProductBulkUpdateService productBulkUpdateService) {
         this.productService = productService;
+        this.productImportService = productImportService;
+        this.productExportService = productExportService;
+        this.productChangeFeedService = productChangeFeedService;
+        this.productBulkUpdateService = productBulkUpdateService;
     }
 
     @GetMapping
@@ -65,6 +95,72 @@ class AdminProductWebController {
         return "redirect:/admin/catalog/products/" + request.code();
     }
 
+    @GetMapping("/import")
+    String showImportForm() {
+        log.info("Admin showing product import form");
+        return "admin/catalog/product-import";
+    }
+
+    @PostMapping("/import")
+    String importProducts(@RequestParam("file") MultipartFile file, Model model) {
+        String originalFilename = file.getOriginalFilename();
+        String filename = originalFilename == null ? "" : originalFilename;
+        log.info("Admin importing products from file: {} ({} bytes)", filename, file.getSize());
+        try (InputStream input = file.getInputStream()) {
+            model.addAttribute(
+                    "importResult",
+                    productImportService.importProducts(input, ProductImportFormat.fromFilename(filename)));
+        } catch (IOException e) {
+            throw ProductImportException.readFailed(e);
+        }
+        return "admin/catalog/product-import";
+    }
+
+    @GetMapping("/bulk-update")
+    String showBulkUpdateForm(Model model) {
+        log.info("Admin showing product bulk update form");
+        model.addAttribute("bulkUpdate", new ProductBulkUpdateCmd(null, null, null, null, null, null, null));
+        return "admin/catalog/product-bulk-update";
+    }
+
+    @PostMapping("/bulk-update")
+    String bulkUpdateProducts(
+            @Valid @ModelAttribute("bulkUpdate") ProductBulkUpdateCmd request, BindingResult result, Model model) {
+        log.info("Admin bulk updating products: {}", request);
+        if (result.hasErrors()) {
+            return "admin/catalog/product-bulk-update";
+        }
+        model.addAttribute("bulkUpdateResult", productBulkUpdateService.updateProducts(request));
+        return "admin/catalog/product-bulk-update";
+    }
+
+    @GetMapping("/export")
+    ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "CSV") ProductExportFormat format,
+            @RequestParam(defaultValue = "true") boolean includeDeleted) {
+        log.info("Admin exporting products as {} (includeDeleted: {})", format, includeDeleted);
+        StreamingResponseBody body = output -> productExportService.exportProducts(output, format, includeDeleted);
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename("products." + format.fileExtension())
+                .build();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    // The header carries the version to pass as 'since' on the next pull
+    @GetMapping("/changes")
+    ResponseEntity<StreamingResponseBody> streamChanges(@RequestParam(defaultValue = "0") long since) {
+        long until = productChangeFeedService.currentVersion();
+        log.info("Admin pulling product changes since version {} (until {})", since, until);
+        StreamingResponseBody body = output -> productChangeFeedService.streamChanges(output, since, until);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(CHANGE_VERSION_HEADER, String.valueOf(until))
+                .body(body);
+    }
+
     @GetMapping("/{code}")
     String getProductByCode(@PathVariable String code, Model model, HtmxRequest hxRequest) {
         log.info("Admin fetching product by code: {}", code);
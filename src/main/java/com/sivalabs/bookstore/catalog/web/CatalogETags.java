@@ -0,0 +1,37 @@
+package com.sivalabs.bookstore.catalog.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Objects;
+import org.jspecify.annotations.Nullable;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.HttpSessionCsrfTokenRepository;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Builds strong ETags for rendered catalog pages. Besides the catalog version and the page parameters, the rendered
+ * HTML depends on the signed-in user (navigation) and the session's CSRF token (hidden form fields), so both are part
+ * of the tag. The raw session token is used rather than the per-request masked one, which any cached copy still
+ * satisfies.
+ */
+final class CatalogETags {
+    private static final HttpSessionCsrfTokenRepository CSRF_TOKENS = new HttpSessionCsrfTokenRepository();
+
+    private CatalogETags() {}
+
+    static String forPage(long catalogVersion, HttpServletRequest request, @Nullable Object... pageParams) {
+        Principal principal = request.getUserPrincipal();
+        CsrfToken csrfToken = CSRF_TOKENS.loadToken(request);
+        StringBuilder key = new StringBuilder()
+                .append(catalogVersion)
+                .append('|')
+                .append(principal == null ? "" : principal.getName())
+                .append('|')
+                .append(csrfToken == null ? "" : csrfToken.getToken());
+        for (Object param : pageParams) {
+            key.append('|').append(Objects.toString(param, ""));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
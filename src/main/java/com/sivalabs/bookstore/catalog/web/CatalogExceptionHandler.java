@@ -1,12 +1,15 @@
 package com.sivalabs.bookstore.catalog.web;
 
 import com.sivalabs.bookstore.catalog.domain.DuplicateProductCodeException;
+import com.sivalabs.bookstore.catalog.domain.InvalidProductCursorException;
+import com.sivalabs.bookstore.catalog.domain.ProductImportException;
 import com.sivalabs.bookstore.catalog.domain.ProductNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.ModelAndView;
 
 @ControllerAdvice(basePackages = "com.sivalabs.bookstore.catalog")
@@ -31,6 +34,33 @@ class CatalogExceptionHandler {
         return mav;
     }
 
+    @ExceptionHandler(InvalidProductCursorException.class)
+    ModelAndView handle(InvalidProductCursorException e) {
+        log.warn("Invalid product cursor: {}", e.getMessage());
+        ModelAndView mav = new ModelAndView("error/400");
+        mav.addObject("errorMessage", e.getMessage());
+        mav.setStatus(HttpStatus.BAD_REQUEST);
+        return mav;
+    }
+
+    @ExceptionHandler(ProductImportException.class)
+    ModelAndView handle(ProductImportException e) {
+        log.warn("Product import failed: {}", e.getMessage());
+        ModelAndView mav = new ModelAndView("error/400");
+        mav.addObject("errorMessage", e.getMessage());
+        mav.setStatus(HttpStatus.BAD_REQUEST);
+        return mav;
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    ModelAndView handle(MethodArgumentTypeMismatchException e) {
+        log.warn("Invalid value for parameter {}: {}", e.getName(), e.getValue());
+        ModelAndView mav = new ModelAndView("error/400");
+        mav.addObject("errorMessage", "Invalid value for parameter '" + e.getName() + "'");
+        mav.setStatus(HttpStatus.BAD_REQUEST);
+        return mav;
+    }
+
     @ExceptionHandler(Exception.class)
     ModelAndView handle(Exception e) {
         log.error("Unexpected error", e);
@@ -0,0 +1,181 @@
+package com.sivalabs.bookstore.catalog.web;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sivalabs.bookstore.catalog.domain.CatalogVersion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.HttpSessionCsrfTokenRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Serves HTMX requests for catalog pages from previously rendered {@code partials/products} HTML, so that hits run
+ * neither the controller nor the template engine. Fragments are keyed by {@link CatalogVersion} and query string;
+ * any product change moves to a new version, and the cache is cleared as soon as one is seen. The only
+ * request-specific part of the fragment, the CSRF token in the add-to-cart forms, is cut out when storing and
+ * spliced back in on every hit. The token is only read when the rendered fragment used it, since reading it creates
+ * the token and a session to hold it.
+ *
+ * <p>Fragments are bounded by their approximate size in bytes with Caffeine's weight-bounded eviction, which keeps
+ * entries by frequency as well as recency. Unlike LRU, a scan over rarely requested pages cannot push out the first
+ * pages that most requests ask for.
+ */
+@Component
+class ProductFragmentCacheFilter extends OncePerRequestFilter {
+    private static final String TEMPLATE = "partials/products";
+    private static final String PRODUCTS_PATH = "/products";
+    private static final HttpSessionCsrfTokenRepository CSRF_TOKENS = new HttpSessionCsrfTokenRepository();
+
+    private final CatalogVersion catalogVersion;
+    private final boolean enabled;
+    private final Cache<FragmentKey, Fragment> fragments;
+    private volatile long cachedVersion;
+
+    ProductFragmentCacheFilter(
+            CatalogVersion catalogVersion, ProductFragmentCacheProperties properties, MeterRegistry meterRegistry) {
+        this.catalogVersion = catalogVersion;
+        this.enabled = properties.enabled();
+        // Bounded by (approximate) bytes of HTML; Caffeine evicts by recency and frequency
+        this.fragments = Caffeine.newBuilder()
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((FragmentKey key, Fragment fragment) -> fragment.weight())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, fragments, "catalog.fragments");
+        Gauge.builder("catalog.fragments.hit.ratio", fragments, c -> c.stats().hitRate())
+                .description("Share of catalog page requests served from rendered fragments")
+                .register(meterRegistry);
+        Gauge.builder("catalog.fragments.memory", fragments, ProductFragmentCacheFilter::weightedSize)
+                .description("Approximate size of the rendered catalog fragments held in memory")
+                .baseUnit(BaseUnits.BYTES)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !"true".equals(request.getHeader("HX-Request"))
+                || !request.getRequestURI().equals(request.getContextPath() + PRODUCTS_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CsrfToken csrfToken = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+        FragmentKey key = fragmentKey(request);
+        if (csrfToken == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Fragment fragment = fragments.getIfPresent(key);
+        if (fragment != null) {
+            writeFragment(fragment, key, csrfToken, request, response);
+            return;
+        }
+        var capturingResponse = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, capturingResponse);
+            cacheFragment(key, csrfToken, request, capturingResponse);
+        } finally {
+            capturingResponse.copyBodyToResponse();
+        }
+    }
+
+    private FragmentKey fragmentKey(HttpServletRequest request) {
+        CatalogVersion.Version version = catalogVersion.current();
+        if (version.number() != cachedVersion) {
+            cachedVersion = version.number();
+            fragments.invalidateAll();
+        }
+        // Page, cursor, filter and sort all come from the query string; invalid ones are rejected by the controller
+        // and never cached, as only 200 responses are stored
+        return new FragmentKey(version, TEMPLATE, request.getQueryString());
+    }
+
+    private void writeFragment(
+            Fragment fragment,
+            FragmentKey key,
+            CsrfToken csrfToken,
+            HttpServletRequest request,
+            HttpServletResponse response)
+            throws IOException {
+        // Same caching headers and validators as ProductWebController
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, "HX-Request");
+        String etag = CatalogETags.forPage(key.version().number(), request, key.query(), true);
+        long lastModified = key.version().lastModified().toEpochMilli();
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+        response.setContentType(fragment.contentType());
+        PrintWriter writer = response.getWriter();
+        List<String> parts = fragment.parts();
+        String token = parts.size() > 1 ? csrfToken.getToken() : "";
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                writer.write(token);
+            }
+            writer.write(parts.get(i));
+        }
+    }
+
+    private void cacheFragment(
+            FragmentKey key, CsrfToken csrfToken, HttpServletRequest request, ContentCachingResponseWrapper response) {
+        String contentType = response.getContentType();
+        if (response.getStatus() != HttpServletResponse.SC_OK
+                || contentType == null
+                || !contentType.startsWith("text/html")) {
+            return;
+        }
+        String html = new String(
+                response.getContentAsByteArray(), Charset.forName(response.getCharacterEncoding()));
+        // Rendering a form with the token stores it in the session; without one there is nothing to cut out
+        List<String> parts =
+                CSRF_TOKENS.loadToken(request) != null ? split(html, csrfToken.getToken()) : List.of(html);
+        fragments.put(key, new Fragment(contentType, parts));
+    }
+
+    private static List<String> split(String html, String token) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        int index;
+        while ((index = html.indexOf(token, start)) >= 0) {
+            parts.add(html.substring(start, index));
+            start = index + token.length();
+        }
+        parts.add(html.substring(start));
+        return parts;
+    }
+
+    private static long weightedSize(Cache<FragmentKey, Fragment> cache) {
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    private record FragmentKey(CatalogVersion.Version version, String template, @Nullable String query) {}
+
+    private record Fragment(String contentType, List<String> parts) {
+        int weight() {
+            // HTML is mostly Latin-1, which compact strings store at one byte per character
+            return parts.stream().mapToInt(String::length).sum();
+        }
+    }
+}
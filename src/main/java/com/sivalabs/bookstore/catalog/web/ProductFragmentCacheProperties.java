@@ -0,0 +1,9 @@
+package com.sivalabs.bookstore.catalog.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "app.catalog.fragment-cache")
+record ProductFragmentCacheProperties(
+        @DefaultValue("true") boolean enabled, @DefaultValue("16MB") DataSize maxSize) {}
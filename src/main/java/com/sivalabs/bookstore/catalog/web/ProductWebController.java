@@ -1,22 +1,34 @@
 package com.sivalabs.bookstore.catalog.web;
 
+import com.sivalabs.bookstore.catalog.domain.CatalogVersion;
+import com.sivalabs.bookstore.catalog.domain.ProductFilter;
 import com.sivalabs.bookstore.catalog.domain.ProductService;
+import com.sivalabs.bookstore.catalog.domain.ProductSort;
 import io.github.wimdeblauwe.htmx.spring.boot.mvc.HtmxRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.math.BigDecimal;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
 
 @Controller
 class ProductWebController {
     private static final Logger log = LoggerFactory.getLogger(ProductWebController.class);
 
     private final ProductService productService;
+    private final CatalogVersion catalogVersion;
 
-    ProductWebController(ProductService productService) {
+    ProductWebController(ProductService productService, CatalogVersion catalogVersion) {
         this.productService = productService;
+        this.catalogVersion = catalogVersion;
     }
 
     @GetMapping
@@ -25,10 +37,87 @@ class ProductWebController {
     }
 
     @GetMapping("/products")
-    String showProducts(@RequestParam(defaultValue = "1") int page, Model model, HtmxRequest hxRequest) {
-        log.info("Fetching products for page: {}", page);
-        var productsPage = productService.getProducts(page);
-        model.addAttribute("productsPage", productsPage);
+    @Nullable String showProducts(
+            @RequestParam(required = false) @Nullable Integer page,
+            @RequestParam(required = false) @Nullable String after,
+            @RequestParam(required = false) @Nullable BigDecimal minPrice,
+            @RequestParam(required = false) @Nullable BigDecimal maxPrice,
+            @RequestParam(defaultValue = "NAME") ProductSort sort,
+            Model model,
+            HtmxRequest hxRequest,
+            ServletWebRequest webRequest) {
+        // Answer revalidations from the in-memory catalog version before any query or rendering runs
+        CatalogVersion.Version version = catalogVersion.current();
+        HttpServletRequest request = webRequest.getRequest();
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+            response.setHeader(HttpHeaders.VARY, "HX-Request");
+        }
+        String etag =
+                CatalogETags.forPage(version.number(), request, request.getQueryString(), hxRequest.isHtmxRequest());
+        if (webRequest.checkNotModified(etag, version.lastModified().toEpochMilli())) {
+            return null;
+        }
+        var filter = new ProductFilter(minPrice, maxPrice);
+        // Numbered pages only exist for the default listing; filtered and price-sorted listings are keyset-paged
+        if (page != null && filter.isEmpty() && sort == ProductSort.NAME) {
+            log.info("Fetching products for page: {}", page);
+            model.addAttribute("productsPage", productService.getProducts(page));
+            model.addAttribute("cursorMode", false);
+        } else {
+            log.info("Fetching products after cursor: {}, filter: {}, sort: {}", after, filter, sort);
+            model.addAttribute("productsPage", productService.getProductsAfter(after, filter, sort));
+            model.addAttribute("cursorMode", true);
+        }
+        model.addAttribute("filter", filter);
+        model.addAttribute("sort", sort);
+        model.addAttribute("listingQuery", listingQuery(filter, sort));
+        if (hxRequest.isHtmxRequest()) {
+            return "partials/products";
+        }
+        return "products";
+    }
+
+    // Filter and sort parameters carried over into the cursor pagination links
+    private static String listingQuery(ProductFilter filter, ProductSort sort) {
+        var query = UriComponentsBuilder.newInstance();
+        if (sort != ProductSort.NAME) {
+            query.queryParam("sort", sort.name());
+        }
+        BigDecimal minPrice = filter.minPrice();
+        if (minPrice != null) {
+            query.queryParam("minPrice", minPrice.toPlainString());
+        }
+        BigDecimal maxPrice = filter.maxPrice();
+        if (maxPrice != null) {
+            query.queryParam("maxPrice", maxPrice.toPlainString());
+        }
+        String value = query.build().getQuery();
+        return value == null ? "" : value;
+    }
+
+    @GetMapping("/products/suggest")
+    String suggestProducts(@RequestParam(defaultValue = "") String q, Model model) {
+        model.addAttribute("suggestions", productService.suggestProducts(q));
+        return "partials/product-suggestions :: suggestions";
+    }
+
+    @GetMapping("/products/search")
+    String searchProducts(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "1") int page,
+            Model model,
+            HtmxRequest hxRequest) {
+        if (q.isBlank()) {
+            model.addAttribute("productsPage", productService.getProductsAfter(null));
+            model.addAttribute("cursorMode", true);
+        } else {
+            log.info("Searching products for query: {}, page: {}", q, page);
+            model.addAttribute("productsPage", productService.searchProducts(q, page));
+            model.addAttribute("cursorMode", false);
+            model.addAttribute("searchQuery", q);
+        }
         if (hxRequest.isHtmxRequest()) {
             return "partials/products";
         }
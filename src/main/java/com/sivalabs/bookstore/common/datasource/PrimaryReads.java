@@ -0,0 +1,20 @@
+package com.sivalabs.bookstore.common.datasource;
+
+/**
+ * Sends the read-only transactions of a task to the primary database rather than the read replica. For reads that
+ * must see a write that has just committed, such as refreshing in-memory copies of data after a change event; the
+ * replica may not have caught up yet. Has no effect when no read replica is configured.
+ */
+public final class PrimaryReads {
+    private static final ScopedValue<Boolean> PINNED = ScopedValue.newInstance();
+
+    private PrimaryReads() {}
+
+    public static void run(Runnable task) {
+        ScopedValue.where(PINNED, true).run(task);
+    }
+
+    public static boolean isPinned() {
+        return PINNED.isBound();
+    }
+}
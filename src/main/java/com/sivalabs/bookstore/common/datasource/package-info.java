@@ -0,0 +1,4 @@
+@NullMarked
+package com.sivalabs.bookstore.common.datasource;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,17 @@
+package com.sivalabs.bookstore.common.models;
+
+import java.util.List;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+public record CursorPagedResult<T>(List<T> data, @Nullable String nextCursor, boolean isFirst) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public static <S, T> CursorPagedResult<T> of(CursorPagedResult<S> result, Function<S, T> mapper) {
+        return new CursorPagedResult<>(
+                result.data.stream().map(mapper).toList(), result.nextCursor, result.isFirst);
+    }
+}
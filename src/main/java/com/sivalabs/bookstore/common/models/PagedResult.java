@@ -12,9 +12,14 @@ public record PagedResult<T>(
         boolean isFirst,
         boolean isLast,
         boolean hasNext,
-        boolean hasPrevious) {
+        boolean hasPrevious,
+        boolean totalEstimated) {
 
     public PagedResult(Page<T> page) {
+        this(page, false);
+    }
+
+    public PagedResult(Page<T> page, boolean totalEstimated) {
         this(
                 page.getContent(),
                 page.getTotalElements(),
@@ -23,7 +28,8 @@ public record PagedResult<T>(
                 page.isFirst(),
                 page.isLast(),
                 page.hasNext(),
-                page.hasPrevious());
+                page.hasPrevious(),
+                totalEstimated);
     }
 
     public static <S, T> PagedResult<T> of(PagedResult<S> pagedResult, Function<S, T> mapper) {
@@ -35,6 +41,7 @@ public record PagedResult<T>(
                 pagedResult.isFirst,
                 pagedResult.isLast,
                 pagedResult.hasNext,
-                pagedResult.hasPrevious);
+                pagedResult.hasPrevious,
+                pagedResult.totalEstimated);
     }
 }
@@ -0,0 +1,20 @@
+package com.sivalabs.bookstore.common.paging;
+
+import java.util.function.LongSupplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Describes the total behind a paged query. {@code repository} selects the configured {@link CountStrategy} and is
+ * the unit of cache invalidation; {@code table} is only set for unfiltered queries, the only ones a table-wide
+ * planner estimate can answer.
+ */
+public record CountQuery(String repository, String cacheKey, @Nullable String table, LongSupplier exactCount) {
+
+    public static CountQuery ofTable(String repository, String table, LongSupplier exactCount) {
+        return new CountQuery(repository, repository, table, exactCount);
+    }
+
+    public static CountQuery filtered(String repository, String filter, LongSupplier exactCount) {
+        return new CountQuery(repository, repository + ":" + filter, null, exactCount);
+    }
+}
@@ -0,0 +1,11 @@
+package com.sivalabs.bookstore.common.paging;
+
+/** How {@link PageTotals} determines the total number of rows behind a paged admin screen. */
+public enum CountStrategy {
+    /** Runs the exact {@code count(*)} on every request. */
+    EXACT,
+    /** Runs the exact count and caches it for a short TTL; writes invalidate it. */
+    CACHED,
+    /** Reads the planner estimate from {@code pg_class.reltuples} for unfiltered queries on large tables. */
+    ESTIMATED
+}
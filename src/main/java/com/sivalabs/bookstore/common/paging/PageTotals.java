@@ -0,0 +1,100 @@
+package com.sivalabs.bookstore.common.paging;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sivalabs.bookstore.common.models.PagedResult;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Turns a {@link Slice} (fetched without a count query) into a {@link PagedResult}, obtaining the total with the
+ * {@link CountStrategy} configured for the repository under {@code app.paging.count-strategies}.
+ */
+@Component
+public class PageTotals {
+    private final PagingProperties properties;
+    private final JdbcClient jdbcClient;
+    private final Cache<String, Long> cachedCounts;
+
+    PageTotals(PagingProperties properties, JdbcClient jdbcClient) {
+        this.properties = properties;
+        this.jdbcClient = jdbcClient;
+        this.cachedCounts = Caffeine.newBuilder()
+                .expireAfterWrite(properties.countCacheTtl())
+                .maximumSize(1000)
+                .build();
+    }
+
+    public <T> PagedResult<T> toPagedResult(Slice<T> slice, CountQuery query) {
+        long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        // On the last non-empty page the total is known without counting
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            return new PagedResult<>(new PageImpl<>(slice.getContent(), slice.getPageable(), seen));
+        }
+        Total total = total(query);
+        long totalElements = Math.max(total.value(), slice.hasNext() ? seen + 1 : seen);
+        return new PagedResult<>(
+                new PageImpl<>(slice.getContent(), slice.getPageable(), totalElements), total.estimated());
+    }
+
+    /**
+     * Drops the cached totals of the repository. Inside a transaction this happens after it commits; dropping them
+     * earlier would let a concurrent page load cache the old total again until the TTL expires.
+     */
+    public void invalidate(String repository) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(repository);
+                }
+            });
+        } else {
+            evict(repository);
+        }
+    }
+
+    private void evict(String repository) {
+        cachedCounts
+                .asMap()
+                .keySet()
+                .removeIf(key -> key.equals(repository) || key.startsWith(repository + ":"));
+    }
+
+    private Total total(CountQuery query) {
+        return switch (properties.countStrategyFor(query.repository())) {
+            case EXACT -> new Total(query.exactCount().getAsLong(), false);
+            case CACHED -> new Total(cachedCount(query), false);
+            case ESTIMATED -> estimatedTotal(query);
+        };
+    }
+
+    private Total estimatedTotal(CountQuery query) {
+        String table = query.table();
+        if (table == null) {
+            return new Total(cachedCount(query), false);
+        }
+        // reltuples is -1 for tables that were never analyzed; small tables are cheap to count exactly
+        long estimate = jdbcClient
+                .sql("select reltuples::bigint from pg_class where oid = to_regclass(:table)")
+                .param("table", table)
+                .query(Long.class)
+                .optional()
+                .orElse(-1L);
+        if (estimate < properties.estimateThreshold()) {
+            return new Total(cachedCount(query), false);
+        }
+        return new Total(estimate, true);
+    }
+
+    private long cachedCount(CountQuery query) {
+        Long count = cachedCounts.get(query.cacheKey(), key -> query.exactCount().getAsLong());
+        return count != null ? count : query.exactCount().getAsLong();
+    }
+
+    private record Total(long value, boolean estimated) {}
+}
@@ -0,0 +1,18 @@
+package com.sivalabs.bookstore.common.paging;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.paging")
+public record PagingProperties(
+        @DefaultValue("EXACT") CountStrategy defaultCountStrategy,
+        @DefaultValue Map<String, CountStrategy> countStrategies,
+        @DefaultValue("30s") Duration countCacheTtl,
+        @DefaultValue("100000") long estimateThreshold) {
+
+    public CountStrategy countStrategyFor(String repository) {
+        return countStrategies.getOrDefault(repository, defaultCountStrategy);
+    }
+}
@@ -0,0 +1,28 @@
+package com.sivalabs.bookstore.config;
+
+import com.sivalabs.bookstore.common.models.CursorPagedResult;
+import com.sivalabs.bookstore.common.models.PagedResult;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Application-wide native image hints: templates, static assets, WebJars (HTMX, Bootstrap, Font Awesome) and JWT
+ * keys are loaded from the classpath at runtime, and every listing template reads the shared paging models. Each
+ * module registers hints for its own types; all registrars are listed in {@code META-INF/spring/aot.factories}.
+ */
+class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        hints.resources()
+                .registerPattern("templates/**")
+                .registerPattern("static/**")
+                .registerPattern("META-INF/resources/webjars/**")
+                .registerPattern("certs/*.pem");
+        hints.reflection()
+                .registerType(PagedResult.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(CursorPagedResult.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sivalabs.bookstore.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Replaces the auto-configured DataSource with primary and replica Hikari pools behind a {@link
+ * ReplicaRoutingDataSource} when {@code app.datasource.replica.enabled} is set. Both pools are beans, so Hikari metrics
+ * are published per pool ({@code hikaricp.connections.*} tagged {@code pool=primary|replica}).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnBooleanProperty("app.datasource.replica.enabled")
+class ReadReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(
+            DataSourceProperties properties, ObjectProvider<JdbcConnectionDetails> connectionDetailsProvider) {
+        // Connection details take precedence, as in the auto-configuration (e.g. Testcontainers service connections)
+        JdbcConnectionDetails connectionDetails = connectionDetailsProvider.getIfAvailable();
+        DataSourceBuilder<?> builder = connectionDetails == null
+                ? properties.initializeDataSourceBuilder()
+                : DataSourceBuilder.create()
+                        .url(connectionDetails.getJdbcUrl())
+                        .username(connectionDetails.getUsername())
+                        .password(connectionDetails.getPassword())
+                        .driverClassName(connectionDetails.getDriverClassName());
+        HikariDataSource dataSource = builder.type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(Objects.requireNonNull(properties.url(), "app.datasource.replica.url"))
+                .username(properties.username())
+                .password(properties.password())
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(
+            HikariDataSource primaryDataSource,
+            HikariDataSource replicaDataSource,
+            ReplicaDataSourceProperties properties,
+            MeterRegistry meterRegistry) {
+        var routingDataSource = new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, properties.maxLag(), meterRegistry);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sivalabs.bookstore.config;
+
+import java.time.Duration;
+import org.jspecify.annotations.Nullable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection settings of the read replica. Pool settings are bound separately from
+ * {@code app.datasource.replica.hikari.*}, like {@code spring.datasource.hikari.*} for the primary.
+ *
+ * @param maxLag how long reads by a session that just committed a write keep going to the primary
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+record ReplicaDataSourceProperties(
+        boolean enabled,
+        @Nullable String url,
+        @Nullable String username,
+        @Nullable String password,
+        @DefaultValue("5s") Duration maxLag) {}
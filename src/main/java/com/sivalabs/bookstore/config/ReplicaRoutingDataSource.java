@@ -0,0 +1,94 @@
+package com.sivalabs.bookstore.config;
+
+import com.sivalabs.bookstore.common.datasource.PrimaryReads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpSession;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Sends connections for read-only transactions to the replica and all others to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the transaction's read-only flag
+ * is known when the target connection is fetched.
+ *
+ * <p>Replicas lag behind the primary, so after a read-write transaction commits, further reads by the same HTTP
+ * session stay on the primary for {@code maxLag}. The marker lives in the session rather than on the thread, which
+ * pooled threads would carry over to unrelated requests. Code that has to read a change right after it committed
+ * outside of a request, such as after-commit event listeners, runs those reads in {@link PrimaryReads}.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+    private static final String LAST_WRITE_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".LAST_WRITE";
+
+    private final Duration maxLag;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this.maxLag = maxLag;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.primaryConnections = routedConnections(PRIMARY, meterRegistry);
+        this.replicaConnections = routedConnections(REPLICA, meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite();
+                    }
+                });
+            }
+            primaryConnections.increment();
+            return PRIMARY;
+        }
+        if (PrimaryReads.isPinned() || wroteWithinMaxLag()) {
+            primaryConnections.increment();
+            return PRIMARY;
+        }
+        replicaConnections.increment();
+        return REPLICA;
+    }
+
+    private void recordWrite() {
+        HttpSession session = currentSession();
+        if (session != null) {
+            session.setAttribute(LAST_WRITE_ATTRIBUTE, Instant.now());
+        }
+    }
+
+    private boolean wroteWithinMaxLag() {
+        HttpSession session = currentSession();
+        return session != null
+                && session.getAttribute(LAST_WRITE_ATTRIBUTE) instanceof Instant sessionWrite
+                && sessionWrite.isAfter(Instant.now().minus(maxLag));
+    }
+
+    private static @Nullable HttpSession currentSession() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getSession(false);
+        }
+        return null;
+    }
+
+    private static Counter routedConnections(String pool, MeterRegistry meterRegistry) {
+        return Counter.builder("datasource.routed.connections")
+                .description("Connections handed out by the read-replica router")
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+}
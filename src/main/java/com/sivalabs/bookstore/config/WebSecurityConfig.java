@@ -35,7 +35,7 @@ public class WebSecurityConfig {
                 .permitAll()
                 .requestMatchers("/admin/**", "/bootui/**")
                 .hasRole("ADMIN")
-                .requestMatchers(HttpMethod.GET, "/products")
+                .requestMatchers(HttpMethod.GET, "/products", "/products/**")
                 .permitAll()
                 .requestMatchers("/buy", "/cart", "/update-cart")
                 .permitAll()
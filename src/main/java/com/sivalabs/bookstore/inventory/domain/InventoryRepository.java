@@ -1,8 +1,12 @@
 package com.sivalabs.bookstore.inventory.domain;
 
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 interface InventoryRepository extends JpaRepository<InventoryEntity, Long> {
     Optional<InventoryEntity> findByProductCode(String productCode);
+
+    Slice<InventoryEntity> findAllBy(Pageable pageable);
 }
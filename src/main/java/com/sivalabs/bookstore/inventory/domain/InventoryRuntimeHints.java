@@ -0,0 +1,15 @@
+package com.sivalabs.bookstore.inventory.domain;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/** Native image hints for the types the inventory templates call methods on. */
+class InventoryRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        hints.reflection().registerType(InventoryView.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -1,10 +1,12 @@
 package com.sivalabs.bookstore.inventory.domain;
 
 import com.sivalabs.bookstore.common.models.PagedResult;
+import com.sivalabs.bookstore.common.paging.CountQuery;
+import com.sivalabs.bookstore.common.paging.PageTotals;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,11 +15,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class InventoryService {
     private static final Logger log = LoggerFactory.getLogger(InventoryService.class);
     private static final int PAGE_SIZE = 10;
+    private static final String COUNT_NAME = "inventory";
 
     private final InventoryRepository inventoryRepository;
+    private final PageTotals pageTotals;
 
-    InventoryService(InventoryRepository inventoryRepository) {
+    InventoryService(InventoryRepository inventoryRepository, PageTotals pageTotals) {
         this.inventoryRepository = inventoryRepository;
+        this.pageTotals = pageTotals;
     }
 
     @Transactional
@@ -38,9 +43,11 @@ public class InventoryService {
     public PagedResult<InventoryView> getAllInventory(int pageNo) {
         int page = pageNo <= 1 ? 0 : pageNo - 1;
         var pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("productCode").ascending());
-        Page<InventoryView> inventoryPage =
-                inventoryRepository.findAll(pageable).map(e -> new InventoryView(e.getProductCode(), e.getQuantity()));
-        return new PagedResult<>(inventoryPage);
+        Slice<InventoryView> inventorySlice = inventoryRepository
+                .findAllBy(pageable)
+                .map(e -> new InventoryView(e.getProductCode(), e.getQuantity()));
+        return pageTotals.toPagedResult(
+                inventorySlice, CountQuery.ofTable(COUNT_NAME, "inventory.inventory", inventoryRepository::count));
     }
 
     @Transactional
@@ -57,6 +64,7 @@ public class InventoryService {
                 });
         entity.setQuantity(quantity);
         InventoryEntity saved = inventoryRepository.save(entity);
+        pageTotals.invalidate(COUNT_NAME);
         log.info("Updated stock level for product code {} to : {}", productCode, quantity);
         return new InventoryView(saved.getProductCode(), saved.getQuantity());
     }
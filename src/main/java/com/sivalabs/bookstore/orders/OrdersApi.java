@@ -1,12 +1,13 @@
 package com.sivalabs.bookstore.orders;
 
+import com.sivalabs.bookstore.common.models.CursorPagedResult;
 import com.sivalabs.bookstore.orders.domain.OrderService;
 import com.sivalabs.bookstore.orders.domain.models.CreateOrderCmd;
 import com.sivalabs.bookstore.orders.domain.models.CreateOrderResult;
 import com.sivalabs.bookstore.orders.domain.models.OrderDto;
 import com.sivalabs.bookstore.orders.domain.models.OrderView;
-import java.util.List;
 import java.util.Optional;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -25,7 +26,7 @@ public class OrdersApi {
         return orderService.findOrder(orderNumber, userId);
     }
 
-    public List<OrderView> findOrders(Long userId) {
-        return orderService.findOrders(userId);
+    public CursorPagedResult<OrderView> findOrders(Long userId, @Nullable String cursor) {
+        return orderService.findOrders(userId, cursor);
     }
 }
@@ -11,4 +11,8 @@ public class InvalidOrderException extends RuntimeException {
             com.sivalabs.bookstore.orders.domain.models.OrderStatus to) {
         return new InvalidOrderException("Order status cannot be changed from " + from + " to " + to);
     }
+
+    public static InvalidOrderException invalidCursor(String cursor) {
+        return new InvalidOrderException("Invalid order cursor: " + cursor);
+    }
 }
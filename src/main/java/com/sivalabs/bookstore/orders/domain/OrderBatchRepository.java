@@ -0,0 +1,77 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class OrderBatchRepository {
+    private final JdbcClient jdbcClient;
+
+    OrderBatchRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    /**
+     * Moves the next {@code limit} orders that are in one of {@code fromStatuses}, and among {@code orderNumbers} when
+     * given, to {@code newStatus} in one UPDATE statement. Rows are locked in id order, and a row whose status was
+     * changed by a concurrent transaction while waiting for its lock is skipped. The version is incremented, so a
+     * single-order update that read the order before is rejected rather than overwriting the new status.
+     */
+    List<TransitionedOrder> transitionChunk(
+            @Nullable Collection<String> orderNumbers,
+            Collection<OrderStatus> fromStatuses,
+            OrderStatus newStatus,
+            LocalDateTime updatedAt,
+            int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("fromStatuses", fromStatuses.stream().map(OrderStatus::name).toArray(String[]::new));
+        params.put("newStatus", newStatus.name());
+        params.put("updatedAt", updatedAt);
+        params.put("limit", limit);
+        String filter = "status = any(:fromStatuses)";
+        if (orderNumbers != null) {
+            filter += " and order_number = any(:orderNumbers)";
+            params.put("orderNumbers", orderNumbers.toArray(String[]::new));
+        }
+        String sql = """
+                with chunk as (
+                    select id, status from orders.orders
+                    where %s
+                    order by id
+                    limit :limit
+                    for update
+                )
+                update orders.orders o
+                set status = :newStatus, updated_at = :updatedAt, version = o.version + 1
+                from chunk
+                where o.id = chunk.id
+                returning o.order_number, chunk.status as previous_status
+                """.formatted(filter);
+        return jdbcClient
+                .sql(sql)
+                .params(params)
+                .query((rs, rowNum) -> new TransitionedOrder(
+                        rs.getString("order_number"), OrderStatus.valueOf(rs.getString("previous_status"))))
+                .list();
+    }
+
+    Map<String, OrderStatus> findStatuses(Collection<String> orderNumbers) {
+        Map<String, OrderStatus> statuses = new HashMap<>();
+        jdbcClient
+                .sql("select order_number, status from orders.orders where order_number = any(:orderNumbers)")
+                .param("orderNumbers", orderNumbers.toArray(String[]::new))
+                .query(rs -> {
+                    statuses.put(rs.getString("order_number"), OrderStatus.valueOf(rs.getString("status")));
+                });
+        return statuses;
+    }
+
+    record TransitionedOrder(String orderNumber, OrderStatus previousStatus) {}
+}
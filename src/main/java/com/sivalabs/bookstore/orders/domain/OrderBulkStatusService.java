@@ -0,0 +1,128 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import com.sivalabs.bookstore.common.paging.PageTotals;
+import com.sivalabs.bookstore.orders.domain.OrderBatchRepository.TransitionedOrder;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusCmd;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusResult;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusResult.RejectedOrder;
+import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class OrderBulkStatusService {
+    private static final Logger log = LoggerFactory.getLogger(OrderBulkStatusService.class);
+    private static final int CHUNK_SIZE = 1000;
+    private static final String COUNT_NAME = "orders";
+
+    private final OrderBatchRepository batchRepo;
+    private final OrderStatusCountRepository statusCountRepository;
+    private final PageTotals pageTotals;
+    private final TransactionTemplate transactionTemplate;
+
+    OrderBulkStatusService(
+            OrderBatchRepository batchRepo,
+            OrderStatusCountRepository statusCountRepository,
+            PageTotals pageTotals,
+            TransactionTemplate transactionTemplate) {
+        this.batchRepo = batchRepo;
+        this.statusCountRepository = statusCountRepository;
+        this.pageTotals = pageTotals;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Moves the selected orders with one conditional UPDATE per {@value #CHUNK_SIZE} orders, committing each chunk on
+     * its own. Only orders whose status {@link OrderStatus#canTransitionTo can transition} to the new status match
+     * the UPDATE, so there is no per-order fetch and check.
+     */
+    public OrderBulkStatusResult updateOrderStatuses(OrderBulkStatusCmd cmd) {
+        long start = System.nanoTime();
+        OrderStatus newStatus = cmd.newStatus();
+        OrderStatus status = cmd.status();
+        if (status != null && !status.canTransitionTo(newStatus)) {
+            throw InvalidOrderException.invalidTransition(status, newStatus);
+        }
+        List<OrderStatus> fromStatuses = Arrays.stream(OrderStatus.values())
+                .filter(from -> from.canTransitionTo(newStatus))
+                .filter(from -> status == null || from == status)
+                .toList();
+
+        List<String> orderNumbers = cmd.orderNumberList();
+        List<String> transitioned = new ArrayList<>();
+        List<RejectedOrder> rejected = new ArrayList<>();
+        try {
+            if (orderNumbers.isEmpty()) {
+                // Moved orders no longer match the filter, so each chunk starts from the front again
+                List<String> chunk;
+                do {
+                    chunk = transitionChunk(null, fromStatuses, newStatus);
+                    transitioned.addAll(chunk);
+                } while (!chunk.isEmpty());
+            } else {
+                for (int from = 0; from < orderNumbers.size(); from += CHUNK_SIZE) {
+                    List<String> listed = orderNumbers.subList(from, Math.min(from + CHUNK_SIZE, orderNumbers.size()));
+                    List<String> chunk = transitionChunk(listed, fromStatuses, newStatus);
+                    transitioned.addAll(chunk);
+                    rejected.addAll(rejectedOrders(listed, chunk));
+                }
+            }
+        } finally {
+            if (!transitioned.isEmpty()) {
+                pageTotals.invalidate(COUNT_NAME);
+            }
+        }
+        var result = new OrderBulkStatusResult(transitioned, rejected, Duration.ofNanos(System.nanoTime() - start));
+        log.info(
+                "Bulk moved {} orders to {}, {} rejected, in {} ms",
+                transitioned.size(),
+                newStatus,
+                rejected.size(),
+                result.duration().toMillis());
+        return result;
+    }
+
+    private List<String> transitionChunk(
+            @Nullable List<String> orderNumbers, List<OrderStatus> fromStatuses, OrderStatus newStatus) {
+        if (fromStatuses.isEmpty()) {
+            return List.of();
+        }
+        List<String> chunk = transactionTemplate.execute(tx -> {
+            List<TransitionedOrder> orders = batchRepo.transitionChunk(
+                    orderNumbers, fromStatuses, newStatus, LocalDateTime.now(ZoneId.systemDefault()), CHUNK_SIZE);
+            Map<OrderStatus, Long> deltas = new EnumMap<>(OrderStatus.class);
+            for (TransitionedOrder order : orders) {
+                deltas.merge(order.previousStatus(), -1L, Long::sum);
+            }
+            deltas.put(newStatus, (long) orders.size());
+            statusCountRepository.adjustAll(deltas);
+            return orders.stream().map(TransitionedOrder::orderNumber).toList();
+        });
+        return chunk == null ? List.of() : chunk;
+    }
+
+    private List<RejectedOrder> rejectedOrders(List<String> listed, List<String> transitioned) {
+        Set<String> moved = new HashSet<>(transitioned);
+        List<String> notMoved = listed.stream().filter(n -> !moved.contains(n)).toList();
+        if (notMoved.isEmpty()) {
+            return List.of();
+        }
+        Map<String, OrderStatus> statuses = batchRepo.findStatuses(notMoved);
+        return notMoved.stream()
+                .map(orderNumber -> new RejectedOrder(orderNumber, statuses.get(orderNumber)))
+                .toList();
+    }
+}
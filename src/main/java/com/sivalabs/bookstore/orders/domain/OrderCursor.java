@@ -0,0 +1,24 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.Base64;
+
+/**
+ * Position of the last order of a "My orders" page, encoded as an opaque URL-safe token.
+ * Orders of a user are listed newest first, so the next page continues below this id.
+ */
+record OrderCursor(Long id) {
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(UTF_8));
+    }
+
+    static OrderCursor decode(String cursor) {
+        try {
+            return new OrderCursor(Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), UTF_8)));
+        } catch (IllegalArgumentException e) {
+            throw InvalidOrderException.invalidCursor(cursor);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -66,6 +67,10 @@ class OrderEntity {
     @Column(name = "updated_at")
     @Nullable private LocalDateTime updatedAt;
 
+    // Null until the order is first saved, which is how Spring Data tells new orders apart
+    @Version
+    @Nullable private Long version;
+
     public OrderEntity() {}
 
     public OrderEntity(
@@ -7,14 +7,13 @@ import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
 import com.sivalabs.bookstore.orders.domain.models.OrderView;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 class OrderMapper {
     private OrderMapper() {}
 
     public static OrderEntity convertToEntity(CreateOrderCmd cmd) {
         OrderEntity entity = new OrderEntity();
-        entity.setOrderNumber(UUID.randomUUID().toString());
+        entity.setOrderNumber(OrderNumberGenerator.nextOrderNumber());
         if (cmd.userId() != null) {
             entity.setUserId(cmd.userId().getUserId());
         }
@@ -0,0 +1,37 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates order numbers as UUIDv7 (RFC 9562): a 48-bit Unix millisecond timestamp, a 12-bit counter and 62 random
+ * bits. Numbers from one instance are strictly increasing, also as strings, so new orders land at the right edge of
+ * the {@code order_number} index instead of on random pages. Instances need no coordination; the random bits keep
+ * their numbers apart. Earlier orders keep their random (v4) numbers, which are looked up the same way.
+ */
+final class OrderNumberGenerator {
+    private static final long COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+
+    private static final OrderNumberGenerator INSTANCE = new OrderNumberGenerator();
+
+    // Last issued (timestamp << 12 | counter). A counter overflow carries into the timestamp, and a clock that
+    // steps back keeps counting from the last value, so numbers never repeat or go backwards.
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    static String nextOrderNumber() {
+        return INSTANCE.next(System.currentTimeMillis()).toString();
+    }
+
+    UUID next(long epochMillis) {
+        long state = lastTimestampAndCounter.updateAndGet(last -> Math.max(last + 1, epochMillis << COUNTER_BITS));
+        long timestamp = state >>> COUNTER_BITS;
+        long mostSigBits = timestamp << 16 | VERSION_7 | (state & COUNTER_MASK);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & VARIANT_MASK | VARIANT_RFC_9562;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
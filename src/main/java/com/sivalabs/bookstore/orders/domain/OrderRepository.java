@@ -3,28 +3,41 @@ package com.sivalabs.bookstore.orders.domain;
 import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
 import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 interface OrderRepository extends JpaRepository<OrderEntity, Long> {
+    // The order item is embedded, so there is nothing to fetch or de-duplicate; a DISTINCT would make the
+    // (user_id, id desc) index useless for the ordering
     @Query("""
-        select distinct o
-        from OrderEntity o left join fetch o.orderItem
+        select o
+        from OrderEntity o
         where o.userId = :userId
+        order by o.id desc
         """)
-    List<OrderEntity> findAllByUserId(Long userId, Sort sort);
+    List<OrderEntity> findFirstPageByUserId(Long userId, Limit limit);
 
     @Query("""
-        select distinct o
-        from OrderEntity o left join fetch o.orderItem
+        select o
+        from OrderEntity o
+        where o.userId = :userId and o.id < :beforeId
+        order by o.id desc
+        """)
+    List<OrderEntity> findPageByUserIdBefore(Long userId, Long beforeId, Limit limit);
+
+    @Query("""
+        select o
+        from OrderEntity o
         where o.orderNumber = :orderNumber and o.userId = :userId
         """)
     Optional<OrderEntity> findByOrderNumberAndUserId(String orderNumber, Long userId);
 
-    Page<OrderEntity> findAllByStatus(OrderStatus status, Pageable pageable);
+    Slice<OrderEntity> findAllBy(Pageable pageable);
+
+    Slice<OrderEntity> findAllByStatus(OrderStatus status, Pageable pageable);
 
     @Query("""
         select distinct o
@@ -1,39 +1,64 @@
 package com.sivalabs.bookstore.orders.domain;
 
+import com.sivalabs.bookstore.common.models.CursorPagedResult;
 import com.sivalabs.bookstore.common.models.PagedResult;
+import com.sivalabs.bookstore.common.paging.CountQuery;
+import com.sivalabs.bookstore.common.paging.PageTotals;
 import com.sivalabs.bookstore.orders.domain.models.*;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class OrderService {
     private static final Logger log = LoggerFactory.getLogger(OrderService.class);
     private static final int ORDER_PAGE_SIZE = 10;
+    private static final int ORDER_HISTORY_PAGE_SIZE = 20;
+    private static final String COUNT_NAME = "orders";
+    private static final int STATUS_UPDATE_ATTEMPTS = 3;
 
     private final OrderRepository orderRepository;
+    private final OrderStatusCountRepository statusCountRepository;
+    private final OrderStatusCounts orderStatusCounts;
+    private final PageTotals pageTotals;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    OrderService(OrderRepository orderRepository, ApplicationEventPublisher publisher) {
+    OrderService(
+            OrderRepository orderRepository,
+            OrderStatusCountRepository statusCountRepository,
+            OrderStatusCounts orderStatusCounts,
+            PageTotals pageTotals,
+            ApplicationEventPublisher publisher,
+            TransactionTemplate transactionTemplate) {
         this.orderRepository = orderRepository;
+        this.statusCountRepository = statusCountRepository;
+        this.orderStatusCounts = orderStatusCounts;
+        this.pageTotals = pageTotals;
         this.eventPublisher = publisher;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Transactional
     public CreateOrderResult createOrder(CreateOrderCmd cmd) {
         OrderEntity orderEntity = OrderMapper.convertToEntity(cmd);
         OrderEntity savedOrder = orderRepository.save(orderEntity);
+        statusCountRepository.increment(savedOrder.getStatus());
+        pageTotals.invalidate(COUNT_NAME);
         log.info("Created Order with orderNumber={}", savedOrder.getOrderNumber());
         OrderCreatedEvent event = new OrderCreatedEvent(
                 savedOrder.getOrderNumber(),
@@ -50,10 +75,16 @@ public class OrderService {
     }
 
     @Transactional(readOnly = true)
-    public List<OrderView> findOrders(Long userId) {
-        Sort sort = Sort.by("id").descending();
-        var orderEntities = orderRepository.findAllByUserId(userId, sort);
-        return OrderMapper.convertToOrderViews(orderEntities);
+    public CursorPagedResult<OrderView> findOrders(Long userId, @Nullable String cursor) {
+        // One extra row tells whether there is a next page without counting the user's orders
+        Limit limit = Limit.of(ORDER_HISTORY_PAGE_SIZE + 1);
+        List<OrderEntity> orderEntities = cursor == null
+                ? orderRepository.findFirstPageByUserId(userId, limit)
+                : orderRepository.findPageByUserIdBefore(userId, OrderCursor.decode(cursor).id(), limit);
+        boolean hasNext = orderEntities.size() > ORDER_HISTORY_PAGE_SIZE;
+        List<OrderEntity> page = hasNext ? orderEntities.subList(0, ORDER_HISTORY_PAGE_SIZE) : orderEntities;
+        @Nullable String nextCursor = hasNext ? new OrderCursor(page.getLast().getId()).encode() : null;
+        return new CursorPagedResult<>(OrderMapper.convertToOrderViews(page), nextCursor, cursor == null);
     }
 
     @Transactional(readOnly = true)
@@ -61,17 +92,42 @@ public class OrderService {
         return orderRepository.findByOrderNumber(orderNumber).map(OrderMapper::convertToDto);
     }
 
-    @Transactional
+    /**
+     * Changes the status with an optimistic version check instead of locking the order while it is read and checked.
+     * When another transaction changed the order in between, the order is read and checked again, up to
+     * {@value #STATUS_UPDATE_ATTEMPTS} times, after which an {@link OrderUpdateConflictException} is thrown. A retry
+     * can also end in an {@link InvalidOrderException} when the order has meanwhile moved on to a status that does
+     * not allow the change.
+     */
     public void updateOrderStatus(String orderNumber, OrderStatus newStatus) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(tx -> transitionOrder(orderNumber, newStatus));
+                pageTotals.invalidate(COUNT_NAME);
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt == STATUS_UPDATE_ATTEMPTS) {
+                    throw OrderUpdateConflictException.forOrderNumber(orderNumber);
+                }
+                log.debug("Order {} was changed concurrently, retrying status update to {}", orderNumber, newStatus);
+            }
+        }
+    }
+
+    private void transitionOrder(String orderNumber, OrderStatus newStatus) {
         OrderEntity entity = orderRepository
                 .findByOrderNumber(orderNumber)
                 .orElseThrow(() -> OrderNotFoundException.forOrderNumber(orderNumber));
         if (!entity.getStatus().canTransitionTo(newStatus)) {
             throw InvalidOrderException.invalidTransition(entity.getStatus(), newStatus);
         }
+        OrderStatus previousStatus = entity.getStatus();
         entity.setStatus(newStatus);
         entity.setUpdatedAt(LocalDateTime.now(ZoneId.systemDefault()));
-        orderRepository.save(entity);
+        // Order row first, counters last: the same lock order as bulk status updates. The flush runs the version
+        // check, so a conflicting update fails before any counter is touched
+        orderRepository.saveAndFlush(entity);
+        statusCountRepository.move(previousStatus, newStatus);
     }
 
     @Transactional(readOnly = true)
@@ -79,12 +135,22 @@ public class OrderService {
         Sort sort = Sort.by("createdAt").descending();
         int page = pageNo <= 1 ? 0 : pageNo - 1;
         Pageable pageable = PageRequest.of(page, ORDER_PAGE_SIZE, sort);
-        Page<AdminOrderView> ordersPage;
         if (status != null) {
-            ordersPage = orderRepository.findAllByStatus(status, pageable).map(OrderMapper::toAdminOrderView);
-        } else {
-            ordersPage = orderRepository.findAll(pageable).map(OrderMapper::toAdminOrderView);
+            return getOrdersAdminByStatus(pageable, status);
         }
-        return new PagedResult<>(ordersPage);
+        return pageTotals.toPagedResult(
+                orderRepository.findAllBy(pageable).map(OrderMapper::toAdminOrderView),
+                CountQuery.ofTable(COUNT_NAME, "orders.orders", orderRepository::count));
+    }
+
+    private PagedResult<AdminOrderView> getOrdersAdminByStatus(Pageable pageable, OrderStatus status) {
+        return pageTotals.toPagedResult(
+                orderRepository.findAllByStatus(status, pageable).map(OrderMapper::toAdminOrderView),
+                CountQuery.filtered(COUNT_NAME, status.name(), () -> statusCountRepository.count(status)));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<OrderStatus, Long> getOrderStatusCounts() {
+        return orderStatusCounts.refresh();
     }
 }
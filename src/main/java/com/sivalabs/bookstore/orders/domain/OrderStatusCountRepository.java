@@ -0,0 +1,99 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Repository;
+
+@Repository
+class OrderStatusCountRepository {
+    // Adds to the counter rather than setting it, so concurrent transactions only wait for each other's row lock
+    private static final String ADJUST = """
+        insert into orders.order_status_counts as c (status, order_count)
+        values (:status, :delta)
+        on conflict (status) do update set order_count = c.order_count + excluded.order_count
+        """;
+
+    // Key of the transaction-level advisory lock held while reconciling the counters
+    static final long RECONCILIATION_LOCK_KEY = 4_202_300L;
+
+    private final JdbcClient jdbcClient;
+
+    OrderStatusCountRepository(JdbcClient jdbcClient) {
+        this.jdbcClient = jdbcClient;
+    }
+
+    void increment(OrderStatus status) {
+        adjust(status, 1);
+    }
+
+    void move(OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        adjustAll(Map.of(from, -1L, to, 1L));
+    }
+
+    // Counters are always locked in status name order, so transactions moving orders in opposite directions cannot
+    // deadlock
+    void adjustAll(Map<OrderStatus, Long> deltas) {
+        deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .sorted(Comparator.comparing(delta -> delta.getKey().name()))
+                .forEach(delta -> adjust(delta.getKey(), delta.getValue()));
+    }
+
+    void adjust(OrderStatus status, long delta) {
+        jdbcClient.sql(ADJUST).param("status", status.name()).param("delta", delta).update();
+    }
+
+    long count(OrderStatus status) {
+        return jdbcClient
+                .sql("select order_count from orders.order_status_counts where status = :status")
+                .param("status", status.name())
+                .query(Long.class)
+                .optional()
+                .orElse(0L);
+    }
+
+    Map<OrderStatus, Long> findAll() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        jdbcClient
+                .sql("select status, order_count from orders.order_status_counts")
+                .query(rs -> {
+                    counts.put(OrderStatus.valueOf(rs.getString("status")), rs.getLong("order_count"));
+                });
+        return counts;
+    }
+
+    // Released when the calling transaction ends
+    boolean tryLockForReconciliation() {
+        return jdbcClient
+                .sql("select pg_try_advisory_xact_lock(:key)")
+                .param("key", RECONCILIATION_LOCK_KEY)
+                .query(Boolean.class)
+                .single();
+    }
+
+    // Orders and counters are changed in the same transactions, so within one statement snapshot they must agree;
+    // the difference is returned as a delta that stays correct whatever commits after the snapshot
+    Map<OrderStatus, Long> findDrift() {
+        Map<OrderStatus, Long> drift = new EnumMap<>(OrderStatus.class);
+        jdbcClient
+                .sql("""
+                    select status, coalesce(o.order_count, 0) - coalesce(c.order_count, 0) as drift
+                    from (select status, count(*) as order_count from orders.orders group by status) o
+                             full join orders.order_status_counts c using (status)
+                    where coalesce(o.order_count, 0) <> coalesce(c.order_count, 0)
+                    """)
+                .query(rs -> {
+                    drift.put(OrderStatus.valueOf(rs.getString("status")), rs.getLong("drift"));
+                });
+        return drift;
+    }
+}
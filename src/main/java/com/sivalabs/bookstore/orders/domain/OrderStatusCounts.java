@@ -0,0 +1,64 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Publishes the per-status order counters as gauges and periodically corrects any drift from the orders table, e.g.
+ * after orders were changed by hand or by a migration. The gauges read the counts last loaded by {@link #refresh()},
+ * which runs on startup, after every reconciliation and whenever the admin dashboard polls the counts.
+ */
+@Component
+class OrderStatusCounts {
+    private static final Logger log = LoggerFactory.getLogger(OrderStatusCounts.class);
+
+    private final OrderStatusCountRepository statusCountRepository;
+    private volatile Map<OrderStatus, Long> snapshot = Map.of();
+
+    OrderStatusCounts(OrderStatusCountRepository statusCountRepository, MeterRegistry meterRegistry) {
+        this.statusCountRepository = statusCountRepository;
+        for (OrderStatus status : OrderStatus.values()) {
+            Gauge.builder("orders.status.count", this, c -> c.snapshot.getOrDefault(status, 0L))
+                    .tag("status", status.name())
+                    .description("Number of orders in the status, as last read from the order status counters")
+                    .register(meterRegistry);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public Map<OrderStatus, Long> refresh() {
+        Map<OrderStatus, Long> counts = Collections.unmodifiableMap(new EnumMap<>(statusCountRepository.findAll()));
+        this.snapshot = counts;
+        return counts;
+    }
+
+    // Every instance runs this job; the advisory lock lets only one of them correct the counters at a time, and the
+    // next one computes its drift from a snapshot that already includes the previous correction
+    @Scheduled(
+            initialDelayString = "${app.orders.status-counts.reconcile-interval}",
+            fixedDelayString = "${app.orders.status-counts.reconcile-interval}")
+    @Transactional
+    public void reconcile() {
+        if (!statusCountRepository.tryLockForReconciliation()) {
+            log.debug("Order status counters are being reconciled by another instance, skipping");
+            return;
+        }
+        Map<OrderStatus, Long> drift = statusCountRepository.findDrift();
+        statusCountRepository.adjustAll(drift);
+        if (!drift.isEmpty()) {
+            log.warn("Corrected order status counters by {}", drift);
+        }
+        refresh();
+    }
+}
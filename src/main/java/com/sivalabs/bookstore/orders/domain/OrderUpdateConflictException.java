@@ -0,0 +1,12 @@
+package com.sivalabs.bookstore.orders.domain;
+
+public class OrderUpdateConflictException extends RuntimeException {
+    public OrderUpdateConflictException(String message) {
+        super(message);
+    }
+
+    public static OrderUpdateConflictException forOrderNumber(String orderNumber) {
+        return new OrderUpdateConflictException(
+                "Order with Number " + orderNumber + " is being changed concurrently, please try again");
+    }
+}
@@ -0,0 +1,42 @@
+package com.sivalabs.bookstore.orders.domain.models;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Moves many orders to {@code newStatus} at once. Orders are selected either by a list of order numbers (separated
+ * by commas or whitespace) or, when none are given, by their current {@code status}; given both, only the listed
+ * orders in that status are moved.
+ */
+public record OrderBulkStatusCmd(
+        @Nullable String orderNumbers,
+        @Nullable OrderStatus status,
+        @NotNull(message = "New status is required") OrderStatus newStatus) {
+    private static final Pattern ORDER_NUMBER_SEPARATORS = Pattern.compile("[\\s,]+");
+
+    public List<String> orderNumberList() {
+        String value = orderNumbers;
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(ORDER_NUMBER_SEPARATORS.split(value.strip()))
+                .filter(orderNumber -> !orderNumber.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    @AssertTrue(message = "Enter order numbers or select the current status")
+    public boolean isSelective() {
+        return !orderNumberList().isEmpty() || status != null;
+    }
+
+    @AssertTrue(message = "Orders in the selected status cannot be moved to the new status")
+    public boolean isAllowedTransition() {
+        OrderStatus from = status;
+        return from == null || newStatus == null || from.canTransitionTo(newStatus);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sivalabs.bookstore.orders.domain.models;
+
+import java.time.Duration;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of an {@link OrderBulkStatusCmd}. Listed orders that were not moved are reported with their current
+ * status, or without one when no such order exists.
+ */
+public record OrderBulkStatusResult(List<String> transitioned, List<RejectedOrder> rejected, Duration duration) {
+
+    public record RejectedOrder(String orderNumber, @Nullable OrderStatus status) {}
+}
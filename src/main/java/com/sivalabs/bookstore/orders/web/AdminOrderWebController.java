@@ -1,15 +1,20 @@
 package com.sivalabs.bookstore.orders.web;
 
+import com.sivalabs.bookstore.orders.domain.OrderBulkStatusService;
 import com.sivalabs.bookstore.orders.domain.OrderNotFoundException;
 import com.sivalabs.bookstore.orders.domain.OrderService;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusCmd;
 import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
 import io.github.wimdeblauwe.htmx.spring.boot.mvc.HtmxRequest;
+import jakarta.validation.Valid;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,9 +26,11 @@ class AdminOrderWebController {
     private static final Logger log = LoggerFactory.getLogger(AdminOrderWebController.class);
 
     private final OrderService orderService;
+    private final OrderBulkStatusService orderBulkStatusService;
 
-    AdminOrderWebController(OrderService orderService) {
+    AdminOrderWebController(OrderService orderService, OrderBulkStatusService orderBulkStatusService) {
         this.orderService = orderService;
+        this.orderBulkStatusService = orderBulkStatusService;
     }
 
     @GetMapping
@@ -42,6 +49,33 @@ class AdminOrderWebController {
         return "admin/orders";
     }
 
+    // Polled by the admin dashboard; reads the per-status counters instead of counting orders
+    @GetMapping("/status-counts")
+    String showOrderStatusCounts(Model model) {
+        model.addAttribute("statusCounts", orderService.getOrderStatusCounts());
+        return "partials/admin/order-status-counts";
+    }
+
+    @GetMapping("/bulk-status")
+    String showBulkStatusForm(Model model) {
+        log.info("Admin showing order bulk status form");
+        model.addAttribute("bulkStatus", new OrderBulkStatusCmd(null, OrderStatus.NEW, OrderStatus.IN_PROCESS));
+        model.addAttribute("statuses", OrderStatus.values());
+        return "admin/order-bulk-status";
+    }
+
+    @PostMapping("/bulk-status")
+    String bulkUpdateOrderStatus(
+            @Valid @ModelAttribute("bulkStatus") OrderBulkStatusCmd request, BindingResult result, Model model) {
+        log.info("Admin bulk updating order status: {}", request);
+        model.addAttribute("statuses", OrderStatus.values());
+        if (result.hasErrors()) {
+            return "admin/order-bulk-status";
+        }
+        model.addAttribute("bulkStatusResult", orderBulkStatusService.updateOrderStatuses(request));
+        return "admin/order-bulk-status";
+    }
+
     @GetMapping("/{orderNumber}")
     String showOrder(@PathVariable String orderNumber, Model model, HtmxRequest hxRequest) {
         log.info("Admin fetching order by orderNumber: {}", orderNumber);
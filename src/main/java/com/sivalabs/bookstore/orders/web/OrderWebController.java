@@ -1,5 +1,6 @@
 package com.sivalabs.bookstore.orders.web;
 
+import com.sivalabs.bookstore.common.models.CursorPagedResult;
 import com.sivalabs.bookstore.orders.domain.OrderNotFoundException;
 import com.sivalabs.bookstore.orders.domain.OrderService;
 import com.sivalabs.bookstore.orders.domain.ProductServiceClient;
@@ -10,7 +11,7 @@ import com.sivalabs.bookstore.users.UserContextUtils;
 import io.github.wimdeblauwe.htmx.spring.boot.mvc.HtmxRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
-import java.util.List;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Controller;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 class OrderWebController {
@@ -61,18 +63,18 @@ class OrderWebController {
     }
 
     @GetMapping("/orders")
-    String getOrders(Model model, HtmxRequest hxRequest) {
-        fetchOrders(model);
+    String getOrders(@RequestParam(required = false) @Nullable String after, Model model, HtmxRequest hxRequest) {
+        fetchOrders(after, model);
         if (hxRequest.isHtmxRequest()) {
             return "partials/orders";
         }
         return "orders";
     }
 
-    private void fetchOrders(Model model) {
+    private void fetchOrders(@Nullable String after, Model model) {
         var userId = UserContextUtils.getCurrentUserIdOrThrow();
-        List<OrderView> orders = orderService.findOrders(userId);
-        model.addAttribute("orders", orders);
+        CursorPagedResult<OrderView> ordersPage = orderService.findOrders(userId, after);
+        model.addAttribute("ordersPage", ordersPage);
     }
 
     @GetMapping("/orders/{orderNumber}")
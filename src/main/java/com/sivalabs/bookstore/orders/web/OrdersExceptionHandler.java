@@ -2,6 +2,7 @@ package com.sivalabs.bookstore.orders.web;
 
 import com.sivalabs.bookstore.orders.domain.InvalidOrderException;
 import com.sivalabs.bookstore.orders.domain.OrderNotFoundException;
+import com.sivalabs.bookstore.orders.domain.OrderUpdateConflictException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -31,6 +32,15 @@ class OrdersExceptionHandler {
         return mav;
     }
 
+    @ExceptionHandler(OrderUpdateConflictException.class)
+    ModelAndView handle(OrderUpdateConflictException e) {
+        log.warn("Order update conflict: {}", e.getMessage());
+        ModelAndView mav = new ModelAndView("error/409");
+        mav.addObject("errorMessage", e.getMessage());
+        mav.setStatus(HttpStatus.CONFLICT);
+        return mav;
+    }
+
     @ExceptionHandler(Exception.class)
     ModelAndView handle(Exception e) {
         log.error("Unexpected error", e);
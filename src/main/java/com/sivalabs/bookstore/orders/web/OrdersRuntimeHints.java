@@ -0,0 +1,43 @@
+package com.sivalabs.bookstore.orders.web;
+
+import com.sivalabs.bookstore.orders.domain.models.AdminOrderView;
+import com.sivalabs.bookstore.orders.domain.models.Customer;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusCmd;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusResult;
+import com.sivalabs.bookstore.orders.domain.models.OrderCreatedEvent;
+import com.sivalabs.bookstore.orders.domain.models.OrderDto;
+import com.sivalabs.bookstore.orders.domain.models.OrderItem;
+import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
+import com.sivalabs.bookstore.orders.domain.models.OrderView;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native image hints for orders: the externalized {@link OrderCreatedEvent}, which Jackson writes to RabbitMQ and to
+ * the event publication registry, and the types the cart and order templates call methods on.
+ */
+class OrdersRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, @Nullable ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), OrderCreatedEvent.class);
+        List.of(
+                        Cart.class,
+                        Cart.LineItem.class,
+                        OrderForm.class,
+                        OrderDto.class,
+                        OrderItem.class,
+                        OrderView.class,
+                        AdminOrderView.class,
+                        OrderBulkStatusCmd.class,
+                        OrderBulkStatusResult.class,
+                        OrderBulkStatusResult.RejectedOrder.class,
+                        Customer.class,
+                        OrderStatus.class)
+                .forEach(type -> hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS));
+    }
+}
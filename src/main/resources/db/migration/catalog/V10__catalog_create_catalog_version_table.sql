@@ -0,0 +1,32 @@
+-- Catalog-wide version that only grows, in commit order. The first statement of a transaction that writes products
+-- bumps it before touching any product row and holds the row lock until commit, so concurrent writers bump one
+-- after the other and always lock the version before products.
+CREATE TABLE catalog.catalog_version
+(
+    id            INT                      NOT NULL DEFAULT 1 CHECK (id = 1),
+    version       BIGINT                   NOT NULL,
+    last_modified TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO catalog.catalog_version(version, last_modified)
+SELECT 1, COALESCE(MAX(updated_at), now())
+FROM catalog.products;
+
+CREATE FUNCTION catalog.bump_catalog_version() RETURNS trigger AS
+$$
+BEGIN
+    IF current_setting('catalog.version_bumped', true) = pg_current_xact_id()::text THEN
+        RETURN NULL;
+    END IF;
+    PERFORM set_config('catalog.version_bumped', pg_current_xact_id()::text, true);
+    UPDATE catalog.catalog_version
+    SET version       = version + 1,
+        last_modified = GREATEST(last_modified, clock_timestamp());
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER products_catalog_version
+    BEFORE INSERT OR UPDATE OR DELETE OR TRUNCATE ON catalog.products
+    FOR EACH STATEMENT EXECUTE FUNCTION catalog.bump_catalog_version();
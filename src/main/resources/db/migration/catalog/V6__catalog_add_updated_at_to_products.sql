@@ -0,0 +1 @@
+ALTER TABLE catalog.products ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now();
@@ -0,0 +1,2 @@
+-- Storefront listings skip soft-deleted rows and page in (name, id) order, names in code point order
+CREATE INDEX products_live_name_id_idx ON catalog.products (name COLLATE ucs_basic, id) WHERE deleted_at IS NULL;
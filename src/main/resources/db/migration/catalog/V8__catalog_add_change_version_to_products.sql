@@ -0,0 +1,19 @@
+-- Every write stamps the row with the id of the writing transaction. Transaction ids grow monotonically, and
+-- the oldest one still running (pg_snapshot_xmin) marks how far the change feed can be read without gaps.
+ALTER TABLE catalog.products ADD COLUMN change_version BIGINT NOT NULL DEFAULT 0;
+
+UPDATE catalog.products SET change_version = pg_current_xact_id()::text::bigint;
+
+CREATE FUNCTION catalog.set_product_change_version() RETURNS trigger AS
+$$
+BEGIN
+    NEW.change_version := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER products_change_version
+    BEFORE INSERT OR UPDATE ON catalog.products
+    FOR EACH ROW EXECUTE FUNCTION catalog.set_product_change_version();
+
+CREATE INDEX products_change_version_idx ON catalog.products (change_version, id);
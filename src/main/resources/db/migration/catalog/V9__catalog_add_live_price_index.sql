@@ -0,0 +1,3 @@
+-- Price-ordered storefront listings and price-range filters page in (price, id) order over live rows;
+-- descending listings walk the same index backwards
+CREATE INDEX products_live_price_id_idx ON catalog.products (price, id) WHERE deleted_at IS NULL;
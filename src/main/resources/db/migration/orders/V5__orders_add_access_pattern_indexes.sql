@@ -0,0 +1,5 @@
+-- "My orders" lists a user's orders newest first
+CREATE INDEX orders_user_id_id_idx ON orders.orders (user_id, id DESC);
+
+-- Admin order list filtered by status, newest first; also answers the per-status counts
+CREATE INDEX orders_status_created_at_idx ON orders.orders (status, created_at DESC);
@@ -0,0 +1,13 @@
+-- Number of orders per status, kept up to date by the transactions that insert orders or change their status
+CREATE TABLE orders.order_status_counts
+(
+    status      TEXT   NOT NULL,
+    order_count BIGINT NOT NULL,
+    PRIMARY KEY (status)
+);
+
+INSERT INTO orders.order_status_counts(status, order_count)
+SELECT s.status, COUNT(o.id)
+FROM UNNEST(ARRAY ['NEW', 'IN_PROCESS', 'DELIVERED', 'CANCELLED', 'ERROR']) AS s(status)
+         LEFT JOIN orders.orders o ON o.status = s.status
+GROUP BY s.status;
@@ -0,0 +1,2 @@
+-- Optimistic locking: every update of an order checks and increments its version
+ALTER TABLE orders.orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
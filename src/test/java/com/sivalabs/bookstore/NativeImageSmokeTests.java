@@ -0,0 +1,151 @@
+package com.sivalabs.bookstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+import org.testcontainers.rabbitmq.RabbitMQContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Starts the native executable against Postgres and RabbitMQ containers, checks that the storefront renders, and
+ * prints time-to-ready and resident memory (Linux only). With {@code -DappJar=<boot jar>} the same is measured for
+ * the JVM. The first start applies the Flyway migrations and is not measured.
+ * Run with {@code -DnativeImage=target/bookstore} after {@code ./mvnw -Pnative native:compile}.
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "nativeImage", matches = ".+")
+class NativeImageSmokeTests {
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer(DockerImageName.parse("postgres:18-alpine"));
+
+    @Container
+    static RabbitMQContainer rabbitmq = new RabbitMQContainer(DockerImageName.parse("rabbitmq:4.3.2-alpine"));
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final List<Process> processes = new ArrayList<>();
+
+    @AfterEach
+    void stopApplications() throws InterruptedException {
+        for (Process process : processes) {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static void stop(Startup startup) throws InterruptedException {
+        startup.process().destroy();
+        startup.process().waitFor();
+    }
+
+    @Test
+    void nativeImageServesStorefront() throws Exception {
+        String nativeImage = System.getProperty("nativeImage", "target/bookstore");
+        List<String> nativeCommand = List.of(Path.of(nativeImage).toAbsolutePath().toString());
+        stop(start(nativeCommand));
+
+        Startup nativeStartup = start(nativeCommand);
+        assertThat(get(nativeStartup.port(), "/actuator/health").body()).contains("\"UP\"");
+        HttpResponse<String> products = get(nativeStartup.port(), "/products");
+        assertThat(products.statusCode()).isEqualTo(200);
+        assertThat(products.body()).contains("product-card");
+        report("native", nativeStartup);
+
+        String appJar = System.getProperty("appJar");
+        if (appJar != null) {
+            Startup jvmStartup = start(List.of(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar", appJar));
+            assertThat(get(jvmStartup.port(), "/products").statusCode()).isEqualTo(200);
+            report("jvm", jvmStartup);
+        }
+    }
+
+    private Startup start(List<String> command) throws Exception {
+        int port = freePort();
+        List<String> args = new ArrayList<>(command);
+        args.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.rabbitmq.host=" + rabbitmq.getHost(),
+                "--spring.rabbitmq.port=" + rabbitmq.getAmqpPort(),
+                "--management.tracing.export.enabled=false"));
+        Path log = Files.createTempFile("bookstore-", ".log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(args)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        processes.add(process);
+        long deadline = start + STARTUP_TIMEOUT.toNanos();
+        while (!isReady(port)) {
+            if (!process.isAlive() || System.nanoTime() > deadline) {
+                throw new IllegalStateException("Application did not become ready:\n" + Files.readString(log));
+            }
+            Thread.sleep(50);
+        }
+        return new Startup(process, port, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private boolean isReady(int port) {
+        try {
+            return get(port, "/actuator/health/readiness").statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpResponse<String> get(int port, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void report(String label, Startup startup) throws IOException {
+        System.out.printf(
+                "%-7s time to ready: %,6d ms   RSS after first page: %s%n",
+                label, startup.timeToReady().toMillis(), residentMemory(startup.process()));
+    }
+
+    private static String residentMemory(Process process) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        if (!Files.exists(status)) {
+            return "n/a";
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst()
+                .orElse("n/a");
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Startup(Process process, int port, Duration timeToReady) {}
+}
@@ -0,0 +1,57 @@
+package com.sivalabs.bookstore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sivalabs.bookstore.catalog.ProductChangedEvent;
+import com.sivalabs.bookstore.catalog.ProductDto;
+import com.sivalabs.bookstore.common.models.CursorPagedResult;
+import com.sivalabs.bookstore.orders.domain.models.Customer;
+import com.sivalabs.bookstore.orders.domain.models.OrderCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+class NativeRuntimeHintsTests {
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void registerHints() {
+        SpringFactoriesLoader.forResourceLocation("META-INF/spring/aot.factories")
+                .load(RuntimeHintsRegistrar.class)
+                .forEach(registrar -> registrar.registerHints(hints, getClass().getClassLoader()));
+    }
+
+    @Test
+    void shouldRegisterTemplatesAndWebJars() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("templates/products.html"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("templates/partials/pagination.html"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+                        .forResource("META-INF/resources/webjars/htmx.org/2.0.10/dist/htmx.min.js"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("certs/public.pem"))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterExternalizedEventsForJackson() {
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(OrderCreatedEvent.class, "customer"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(Customer.class, "email"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(ProductChangedEvent.class, "code"))
+                .accepts(hints);
+    }
+
+    @Test
+    void shouldRegisterMethodsCalledFromTemplates() {
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(ProductDto.class, "getDisplayName"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethodInvocation(CursorPagedResult.class, "hasNext"))
+                .accepts(hints);
+    }
+}
@@ -0,0 +1,97 @@
+package com.sivalabs.bookstore.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.domain.ProductCache;
+import com.sivalabs.bookstore.catalog.domain.ProductService;
+import com.sivalabs.bookstore.catalog.domain.UpdateProductCmd;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+@Sql("/test-products-data.sql")
+class ProductApiIntegrationTests {
+
+    @Autowired
+    private ProductApi productApi;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @BeforeEach
+    void setUp() {
+        productCache.clear();
+    }
+
+    @Test
+    void shouldReturnUpdatedProductAfterCachedLookup() {
+        assertThat(productApi.getByCode("P100")).get().extracting(ProductDto::name).isEqualTo("The Hunger Games");
+
+        productService.updateProduct(
+                "P100", new UpdateProductCmd("Updated Hunger Games", null, null, new BigDecimal("34.0")));
+
+        assertThat(productApi.getByCode("P100")).get().extracting(ProductDto::name).isEqualTo("Updated Hunger Games");
+    }
+
+    @Test
+    void shouldNotReturnDeletedProductAfterCachedLookup() {
+        assertThat(productApi.getByCode("P101")).isPresent();
+
+        productService.deleteByCode("P101");
+
+        assertThat(productApi.getByCode("P101")).isEmpty();
+    }
+
+    @Test
+    void shouldReturnRestoredProductAfterCachedMiss() {
+        productService.deleteByCode("P102");
+        assertThat(productApi.getByCode("P102")).isEmpty();
+
+        productService.restoreByCode("P102");
+
+        assertThat(productApi.getByCode("P102")).isPresent();
+    }
+
+    @Test
+    void shouldReturnLiveProductsForKnownCodes() {
+        productService.deleteByCode("P103");
+
+        Map<String, ProductDto> products = productApi.getByCodes(List.of("P100", "P101", "P103", "UNKNOWN", "P100"));
+
+        assertThat(products).containsOnlyKeys("P100", "P101");
+        assertThat(products.get("P100")).extracting(ProductDto::name).isEqualTo("The Hunger Games");
+    }
+
+    @Test
+    void shouldMixCachedAndLoadedProducts() {
+        assertThat(productApi.getByCode("P100")).isPresent();
+
+        assertThat(productApi.getByCodes(List.of("P100", "P105"))).containsOnlyKeys("P100", "P105");
+        assertThat(productCache.getAll(List.of("P100", "P105"))).containsOnlyKeys("P100", "P105");
+    }
+
+    @Test
+    void shouldLookUpCodesAcrossChunks() {
+        List<String> codes = new ArrayList<>(IntStream.range(0, 2500).mapToObj(i -> "MISSING" + i).toList());
+        codes.addAll(IntStream.rangeClosed(100, 114).mapToObj(i -> "P" + i).toList());
+
+        assertThat(productApi.getByCodes(codes)).hasSize(15);
+    }
+}
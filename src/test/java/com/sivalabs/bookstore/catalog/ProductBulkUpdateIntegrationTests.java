@@ -0,0 +1,112 @@
+package com.sivalabs.bookstore.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.domain.ProductBulkUpdateCmd;
+import com.sivalabs.bookstore.catalog.domain.ProductBulkUpdateResult;
+import com.sivalabs.bookstore.catalog.domain.ProductBulkUpdateService;
+import com.sivalabs.bookstore.catalog.domain.ProductCache;
+import com.sivalabs.bookstore.catalog.domain.ProductService;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.modulith.test.PublishedEvents;
+import org.springframework.test.context.jdbc.Sql;
+
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+@Sql("/test-products-data.sql")
+class ProductBulkUpdateIntegrationTests {
+
+    @Autowired
+    private ProductBulkUpdateService productBulkUpdateService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        productCache.clear();
+    }
+
+    @Test
+    void shouldRepriceListedProductsAndPublishOneEvent(PublishedEvents events) {
+        assertThat(productService.getByCode("P100"))
+                .get()
+                .satisfies(p -> assertThat(p.price()).isEqualByComparingTo("34.0"));
+
+        ProductBulkUpdateResult result = productBulkUpdateService.updateProducts(
+                new ProductBulkUpdateCmd("P100, P101", null, null, null, new BigDecimal("-10"), null, null));
+
+        assertThat(result.updatedProducts()).isEqualTo(2);
+        assertThat(productService.getByCode("P100"))
+                .get()
+                .satisfies(p -> assertThat(p.price()).isEqualByComparingTo("30.60"));
+        assertThat(productService.getByCode("P101"))
+                .get()
+                .satisfies(p -> assertThat(p.price()).isEqualByComparingTo("40.86"));
+        assertThat(productService.getByCode("P102"))
+                .get()
+                .satisfies(p -> assertThat(p.price()).isEqualByComparingTo("44.50"));
+        assertThat(events.ofType(ProductsBulkChangedEvent.class)).hasSize(1);
+        assertThat(events.ofType(ProductChangedEvent.class)).isEmpty();
+    }
+
+    @Test
+    void shouldSetFieldsOnLiveProductsMatchingFilter() {
+        productService.deleteByCode("P112");
+
+        ProductBulkUpdateResult result = productBulkUpdateService.updateProducts(
+                new ProductBulkUpdateCmd(null, "the", null, null, null, "Campaign pick", null));
+
+        assertThat(result.updatedProducts()).isEqualTo(9);
+        assertThat(productService.getByCode("P103"))
+                .get()
+                .extracting(ProductDto::description)
+                .isEqualTo("Campaign pick");
+        assertThat(productService.getByCode("P111"))
+                .get()
+                .extracting(ProductDto::description)
+                .isNotEqualTo("Campaign pick");
+        assertThat(productService.getByCodeAdmin("P112"))
+                .get()
+                .extracting(ProductDto::description)
+                .isNotEqualTo("Campaign pick");
+    }
+
+    @Test
+    void shouldUpdateAcrossChunks(PublishedEvents events) {
+        seedProducts(2500);
+
+        ProductBulkUpdateResult result = productBulkUpdateService.updateProducts(
+                new ProductBulkUpdateCmd(null, "Bulk Book", null, null, new BigDecimal("5"), null, null));
+
+        assertThat(result.updatedProducts()).isEqualTo(2500);
+        assertThat(events.ofType(ProductsBulkChangedEvent.class)).hasSize(1);
+    }
+
+    private void seedProducts(int count) {
+        jdbcClient
+                .sql("""
+                    insert into catalog.products(code, name, price)
+                    select 'BULK' || g, 'Bulk Book ' || g, 10 + g % 90
+                    from generate_series(1, :count) g
+                    """)
+                .param("count", count)
+                .update();
+    }
+}
@@ -0,0 +1,121 @@
+package com.sivalabs.bookstore.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.domain.ProductCache;
+import com.sivalabs.bookstore.catalog.domain.ProductImportError;
+import com.sivalabs.bookstore.catalog.domain.ProductImportFormat;
+import com.sivalabs.bookstore.catalog.domain.ProductImportResult;
+import com.sivalabs.bookstore.catalog.domain.ProductImportService;
+import com.sivalabs.bookstore.catalog.domain.ProductService;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.jdbc.Sql;
+
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+@Sql("/test-products-data.sql")
+class ProductImportIntegrationTests {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @BeforeEach
+    void setUp() {
+        productCache.clear();
+    }
+
+    @Test
+    void shouldImportCsvAndReportInvalidRows() {
+        String csv = """
+                code,name,description,image_url,price
+                PIMP1,Imported One,"Quoted, with comma",,10.5
+                PIMP2,"Multi
+                Line",,,11
+                PIMP3,,No name,,12
+                PIMP4,Bad Price,,,abc
+                """;
+
+        ProductImportResult result = productImportService.importProducts(stream(csv), ProductImportFormat.CSV);
+
+        assertThat(result.processedRows()).isEqualTo(4);
+        assertThat(result.importedRows()).isEqualTo(2);
+        assertThat(result.failedRows()).isEqualTo(2);
+        assertThat(result.errors())
+                .extracting(ProductImportError::lineNumber, ProductImportError::message)
+                .containsExactly(
+                        tuple(5L, "Product name is required"),
+                        tuple(6L, "Invalid price: abc"));
+        assertThat(productService.getByCodeAdmin("PIMP1"))
+                .get()
+                .extracting(ProductDto::description)
+                .isEqualTo("Quoted, with comma");
+        assertThat(productService.getByCodeAdmin("PIMP2"))
+                .get()
+                .extracting(ProductDto::name)
+                .isEqualTo("Multi\nLine");
+    }
+
+    @Test
+    void shouldUpsertExistingProductsByCode() {
+        assertThat(productService.getByCode("P100")).get().extracting(ProductDto::name).isEqualTo("The Hunger Games");
+
+        String ndjson = """
+                {"code":"P100","name":"The Hunger Games (Reissue)","price":39.0}
+                {"code":"PIMP5","name":"Brand New","price":5.0}
+                not json
+                """;
+
+        ProductImportResult result = productImportService.importProducts(stream(ndjson), ProductImportFormat.NDJSON);
+
+        assertThat(result.importedRows()).isEqualTo(2);
+        assertThat(result.failedRows()).isEqualTo(1);
+        assertThat(productService.getByCode("P100"))
+                .get()
+                .satisfies(p -> {
+                    assertThat(p.name()).isEqualTo("The Hunger Games (Reissue)");
+                    assertThat(p.price()).isEqualByComparingTo(new BigDecimal("39.0"));
+                });
+        assertThat(productService.getByCode("PIMP5")).isPresent();
+    }
+
+    @Test
+    void shouldCountRepeatedCodeOnceAndRestoreDeletedProduct() {
+        productService.deleteByCode("P100");
+
+        String ndjson = """
+                {"code":"P100","name":"The Hunger Games","price":34.0}
+                {"code":"PIMP6","name":"First Draft","price":5.0}
+                {"code":"PIMP6","name":"Final Draft","price":6.0}
+                """;
+
+        ProductImportResult result = productImportService.importProducts(stream(ndjson), ProductImportFormat.NDJSON);
+
+        assertThat(result.processedRows()).isEqualTo(3);
+        assertThat(result.importedRows()).isEqualTo(2);
+        assertThat(productService.getByCode("P100")).isPresent();
+        assertThat(productService.getByCode("PIMP6")).get().extracting(ProductDto::name).isEqualTo("Final Draft");
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
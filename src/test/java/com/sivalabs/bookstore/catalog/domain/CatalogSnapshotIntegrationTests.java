@@ -0,0 +1,150 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.ProductDto;
+import com.sivalabs.bookstore.common.models.CursorPagedResult;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+@TestPropertySource(properties = "app.catalog.snapshot.enabled=true")
+@Sql("/test-products-data.sql")
+class CatalogSnapshotIntegrationTests {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository repo;
+
+    @Autowired
+    private ProductQueryRepository queryRepo;
+
+    @Autowired
+    private CatalogSnapshot catalogSnapshot;
+
+    @Autowired
+    private ProductCache productCache;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void setUp() {
+        // Test data is reloaded without change events
+        catalogSnapshot.rebuild();
+        productCache.clear();
+    }
+
+    @Test
+    void shouldServeSameListingsAsDatabase() {
+        assertThat(productService.getProducts(2).data())
+                .isEqualTo(repo.findLiveProducts(PageRequest.of(1, 10)).getContent());
+
+        CursorPagedResult<ProductDto> firstPage = productService.getProductsAfter(null);
+        String nextCursor = firstPage.nextCursor();
+        assertThat(nextCursor).isNotNull();
+        assertThat(productService.getProductsAfter(nextCursor).data())
+                .extracting(ProductDto::code)
+                .doesNotContainAnyElementsOf(
+                        firstPage.data().stream().map(ProductDto::code).toList())
+                .hasSize(5);
+    }
+
+    @Test
+    void shouldServeSameFilteredAndSortedListingsAsDatabase() {
+        List<ProductFilter> filters = List.of(
+                ProductFilter.NONE,
+                new ProductFilter(new BigDecimal("14.50"), null),
+                new ProductFilter(null, new BigDecimal("32")),
+                new ProductFilter(new BigDecimal("14"), new BigDecimal("34")));
+        for (ProductSort sort : ProductSort.values()) {
+            for (ProductFilter filter : filters) {
+                ProductCursor after = null;
+                do {
+                    List<ProductPageRow> fromSnapshot = catalogSnapshot.findLivePage(filter, sort, after, 4);
+                    assertThat(fromSnapshot)
+                            .as("%s %s after %s", sort, filter, after)
+                            .isEqualTo(queryRepo.findLivePage(filter, sort, after, 4));
+                    after = fromSnapshot.size() < 4 ? null : ProductCursor.of(fromSnapshot.getLast(), sort);
+                } while (after != null);
+            }
+        }
+    }
+
+    @Test
+    void shouldOrderNamesLikeDatabaseRegardlessOfCaseAndAccents() {
+        jdbcClient
+                .sql("""
+                    insert into catalog.products(code, name, price)
+                    values ('PC1', 'apple pie', 10), ('PC2', 'Éclairs', 10), ('PC3', 'Zebra', 10),
+                           ('PC4', 'eclairs', 10), ('PC5', '𝔄 Fraktur', 10), ('PC6', 'ﬁne print', 10)
+                    """)
+                .update();
+        catalogSnapshot.rebuild();
+
+        ProductCursor after = null;
+        do {
+            List<ProductPageRow> fromSnapshot =
+                    catalogSnapshot.findLivePage(ProductFilter.NONE, ProductSort.NAME, after, 4);
+            assertThat(fromSnapshot)
+                    .as("after %s", after)
+                    .isEqualTo(queryRepo.findLivePage(ProductFilter.NONE, ProductSort.NAME, after, 4));
+            after = fromSnapshot.size() < 4 ? null : ProductCursor.of(fromSnapshot.getLast(), ProductSort.NAME);
+        } while (after != null);
+        assertThat(productService.getProducts(2).data())
+                .isEqualTo(repo.findLiveProducts(PageRequest.of(1, 10)).getContent());
+    }
+
+    @Test
+    void shouldServeReadsWithoutQueryingDatabase() {
+        jdbcClient
+                .sql("update catalog.products set name = 'Changed behind the snapshot' where code = 'P100'")
+                .update();
+
+        assertThat(productService.getByCode("P100"))
+                .get()
+                .extracting(ProductDto::name)
+                .isEqualTo("The Hunger Games");
+    }
+
+    @Test
+    void shouldSwapInUpdatedProduct() {
+        productService.updateProduct(
+                "P100", new UpdateProductCmd("Zzz Hunger Games", null, null, new BigDecimal("34.0")));
+
+        assertThat(productService.getByCode("P100"))
+                .get()
+                .extracting(ProductDto::name)
+                .isEqualTo("Zzz Hunger Games");
+        assertThat(productService.getProducts(2).data().getLast().name()).isEqualTo("Zzz Hunger Games");
+    }
+
+    @Test
+    void shouldDropDeletedAndAddRestoredProduct() {
+        productService.deleteByCode("P101");
+
+        assertThat(productService.getByCode("P101")).isEmpty();
+        assertThat(productService.getProducts(1).totalElements()).isEqualTo(14);
+
+        productService.restoreByCode("P101");
+
+        assertThat(productService.getByCode("P101")).isPresent();
+        assertThat(productService.getProducts(1).totalElements()).isEqualTo(15);
+    }
+}
@@ -0,0 +1,142 @@
+package com.sivalabs.bookstore.catalog.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.jdbc.Sql;
+
+/**
+ * Seeds a large catalog (every tenth product soft-deleted) and checks that the storefront queries are answered from
+ * the partial indexes instead of a sequential scan plus sort. Run with {@code -Dbenchmarks=true}.
+ */
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+@Sql("/test-products-data.sql")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class LiveProductIndexBenchmarkTests {
+    private static final int PRODUCT_COUNT = 200_000;
+    private static final String COLUMNS = "code, name, description, image_url, price, deleted_at";
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @BeforeEach
+    void seedCatalog() {
+        jdbcClient
+                .sql("""
+                    insert into catalog.products(code, name, description, price, deleted_at)
+                    select 'B' || g, 'Book ' || md5(g::text), 'Description of book ' || g, 10 + g % 90,
+                           case when g % 10 = 0 then now() end
+                    from generate_series(1, :count) g
+                    """)
+                .param("count", PRODUCT_COUNT)
+                .update();
+        jdbcClient.sql("analyze catalog.products").update();
+    }
+
+    @Test
+    void firstLivePageUsesNameIndex() {
+        String plan = explain("select " + COLUMNS + """
+                 from catalog.products
+                where deleted_at is null
+                order by name collate ucs_basic, id
+                limit 11
+                """);
+
+        assertThat(plan).contains("products_live_name_id_idx").doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void keysetPageUsesNameIndex() {
+        String plan = explain("select " + COLUMNS + """
+                 from catalog.products
+                where deleted_at is null
+                  and (name collate ucs_basic, id) > ('Book 8', 0)
+                order by name collate ucs_basic, id
+                limit 11
+                """);
+
+        assertThat(plan).contains("products_live_name_id_idx").doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void numberedLivePageUsesNameIndex() {
+        String plan = explain("select " + COLUMNS + """
+                 from catalog.products
+                where deleted_at is null
+                order by name collate ucs_basic, id
+                offset 5000 limit 10
+                """);
+
+        assertThat(plan).contains("products_live_name_id_idx").doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void priceSortedKeysetPageUsesPriceIndex() {
+        String plan = explain("select " + COLUMNS + """
+                 from catalog.products
+                where deleted_at is null
+                  and (price, id) > (50, 100000)
+                order by price, id
+                limit 11
+                """);
+
+        assertThat(plan).contains("products_live_price_id_idx").doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void descendingPriceKeysetPageUsesPriceIndexBackwards() {
+        String plan = explain("select " + COLUMNS + """
+                 from catalog.products
+                where deleted_at is null
+                  and (price, id) < (50, 100000)
+                order by price desc, id desc
+                limit 11
+                """);
+
+        assertThat(plan)
+                .contains("Index Scan Backward using products_live_price_id_idx")
+                .doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void priceBandKeysetPageUsesPriceIndex() {
+        String plan = explain("select " + COLUMNS + """
+                 from catalog.products
+                where deleted_at is null
+                  and price >= 20 and price <= 30
+                  and (price, id) > (25, 100000)
+                order by price, id
+                limit 11
+                """);
+
+        assertThat(plan).contains("products_live_price_id_idx").doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void liveCodeLookupUsesIndex() {
+        String plan = explain("select " + COLUMNS + """
+                 from catalog.products
+                where code = 'B4242' and deleted_at is null
+                """);
+
+        assertThat(plan).containsPattern("Index (Only )?Scan").doesNotContain("Seq Scan");
+    }
+
+    private String explain(String sql) {
+        List<String> lines =
+                jdbcClient.sql("explain (analyze, buffers) " + sql).query(String.class).list();
+        return String.join(System.lineSeparator(), lines);
+    }
+}
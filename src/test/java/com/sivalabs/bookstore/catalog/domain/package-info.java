@@ -0,0 +1,4 @@
+@NullMarked
+package com.sivalabs.bookstore.catalog.domain;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,4 @@
+@NullMarked
+package com.sivalabs.bookstore.catalog;
+
+import org.jspecify.annotations.NullMarked;
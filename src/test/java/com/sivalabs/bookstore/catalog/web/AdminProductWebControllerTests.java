@@ -6,11 +6,13 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 
 import com.sivalabs.bookstore.TestcontainersConfiguration;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.modulith.test.ApplicationModuleTest;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.assertj.MockMvcTester;
@@ -375,4 +377,159 @@ class AdminProductWebControllerTests {
                 .bodyText()
                 .contains("/admin/catalog/products/P111/restore");
     }
+
+    @Test
+    void shouldImportProductsFromUploadedCsv() {
+        var file = new MockMultipartFile(
+                "file",
+                "products.csv",
+                "text/csv",
+                "code,name,price\nPUP1,Uploaded Book,9.99\nPUP2,,9.99\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(mockMvcTester
+                        .post()
+                        .uri("/admin/catalog/products/import")
+                        .multipart()
+                        .file(file)
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf()))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("import-result")
+                .contains("Product name is required");
+
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/admin/catalog/products/PUP1")
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Uploaded Book");
+    }
+
+    @Test
+    void shouldReturn400ForCsvWithoutRequiredColumns() {
+        var file = new MockMultipartFile(
+                "file", "products.csv", "text/csv", "sku,title\nX,Y\n".getBytes(StandardCharsets.UTF_8));
+
+        assertThat(mockMvcTester
+                        .post()
+                        .uri("/admin/catalog/products/import")
+                        .multipart()
+                        .file(file)
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf()))
+                .hasStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldExportAllProductsAsCsv() {
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/admin/catalog/products/export")
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .hasHeader("Content-Disposition", "attachment; filename=\"products.csv\"")
+                .bodyText()
+                .startsWith("code,name,description,image_url,price,deleted_at")
+                .contains("P100,The Hunger Games,")
+                .contains("P114,Fifty Shades of Grey,");
+    }
+
+    @Test
+    void shouldExportOnlyLiveProductsAsNdjsonWhenDeletedAreExcluded() {
+        mockMvcTester
+                .post()
+                .uri("/admin/catalog/products/P111/delete")
+                .with(user("admin").roles("ADMIN"))
+                .with(csrf())
+                .exchange();
+
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/admin/catalog/products/export?format=NDJSON&includeDeleted=false")
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("\"code\":\"P100\"")
+                .doesNotContain("\"code\":\"P111\"");
+    }
+
+    @Test
+    void shouldReturn400ForUnknownExportFormat() {
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/admin/catalog/products/export?format=XML")
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldStreamAllProductsAsChangesFromVersionZero() {
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/admin/catalog/products/changes?since=0")
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .containsHeader(AdminProductWebController.CHANGE_VERSION_HEADER)
+                .bodyText()
+                .contains("\"code\":\"P100\"")
+                .contains("\"code\":\"P114\"");
+    }
+
+    @Test
+    void shouldStreamOnlyChangesSincePreviousPullWithTombstones() {
+        String version = mockMvcTester
+                .get()
+                .uri("/admin/catalog/products/changes?since=0")
+                .with(user("admin").roles("ADMIN"))
+                .exchange()
+                .getResponse()
+                .getHeader(AdminProductWebController.CHANGE_VERSION_HEADER);
+        assertThat(version).isNotNull();
+
+        mockMvcTester
+                .post()
+                .uri("/admin/catalog/products/P111/delete")
+                .with(user("admin").roles("ADMIN"))
+                .with(csrf())
+                .exchange();
+
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/admin/catalog/products/changes?since={since}", version)
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("\"code\":\"P111\",\"deleted\":true")
+                .doesNotContain("\"code\":\"P100\"");
+    }
+
+    @Test
+    void shouldBulkUpdateProductsAndShowResult() {
+        assertThat(mockMvcTester
+                        .post()
+                        .uri("/admin/catalog/products/bulk-update")
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf())
+                        .param("codes", "P100 P101")
+                        .param("pricePercentChange", "10"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Updated <strong>2</strong> products");
+    }
+
+    @Test
+    void shouldRejectBulkUpdateWithoutSelectionOrChange() {
+        assertThat(mockMvcTester
+                        .post()
+                        .uri("/admin/catalog/products/bulk-update")
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf()))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Enter product codes or at least one filter")
+                .contains("Enter a price change, a description or an image URL")
+                .doesNotContain("bulk-update-result");
+    }
 }
@@ -0,0 +1,317 @@
+package com.sivalabs.bookstore.catalog.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.domain.CatalogVersion;
+import com.sivalabs.bookstore.catalog.domain.ProductService;
+import com.sivalabs.bookstore.catalog.domain.UpdateProductCmd;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+@AutoConfigureMockMvc
+@Sql("/test-products-data.sql")
+class ProductWebControllerTests {
+    private static final Pattern NEXT_CURSOR = Pattern.compile("/products\\?after=([A-Za-z0-9_-]+)");
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    @Autowired
+    private MockMvcTester mockMvcTester;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CatalogVersion catalogVersion;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Test data is reloaded without change events
+        catalogVersion.refresh();
+    }
+
+    @Test
+    void shouldRenderFirstPageWithNextCursorLink() {
+        assertThat(mockMvcTester.get().uri("/products"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("A Game of Thrones")
+                .doesNotContain("The Hunger Games")
+                .containsPattern(NEXT_CURSOR);
+    }
+
+    @Test
+    void shouldRenderNextPageForCursor() throws Exception {
+        String firstPage = mockMvcTester.get().uri("/products").exchange().getResponse().getContentAsString();
+        Matcher matcher = NEXT_CURSOR.matcher(firstPage);
+        assertThat(matcher.find()).isTrue();
+
+        assertThat(mockMvcTester.get().uri("/products?after={cursor}", matcher.group(1)))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("The Hunger Games")
+                .doesNotContain("A Game of Thrones");
+    }
+
+    @Test
+    void shouldReturnPartialFragmentForHtmxCursorRequest() {
+        assertThat(mockMvcTester.get().uri("/products").header("HX-Request", "true"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("A Game of Thrones")
+                .doesNotContain("sf-nav");
+    }
+
+    @Test
+    void shouldStillSupportNumberedPages() {
+        assertThat(mockMvcTester.get().uri("/products?page=2"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("The Hunger Games")
+                .doesNotContain("A Game of Thrones");
+    }
+
+    @Test
+    void shouldReturn400ForInvalidCursor() {
+        assertThat(mockMvcTester.get().uri("/products?after=not-a-cursor")).hasStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldReturnRankedSearchResults() {
+        assertThat(mockMvcTester.get().uri("/products/search?q={q}", "hunger").header("HX-Request", "true"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("The Hunger Games")
+                .doesNotContain("A Game of Thrones");
+    }
+
+    @Test
+    void shouldMatchSearchTermsInDescription() {
+        assertThat(mockMvcTester.get().uri("/products/search?q={q}", "shepherd"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("The Alchemist");
+    }
+
+    @Test
+    void shouldShowEmptyResultForUnmatchedSearch() {
+        assertThat(mockMvcTester.get().uri("/products/search?q={q}", "xyzzy").header("HX-Request", "true"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("No books found.");
+    }
+
+    @Test
+    void shouldSuggestProductsByNamePrefixIgnoringLeadingArticle() {
+        assertThat(mockMvcTester.get().uri("/products/suggest?q={q}", "hung").header("HX-Request", "true"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("The Hunger Games")
+                .doesNotContain("The Alchemist");
+    }
+
+    @Test
+    void shouldSuggestProductsByCodePrefix() {
+        assertThat(mockMvcTester.get().uri("/products/suggest?q={q}", "p107").header("HX-Request", "true"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("The Alchemist");
+    }
+
+    @Test
+    void shouldReturnNoSuggestionsForBlankQuery() {
+        assertThat(mockMvcTester.get().uri("/products/suggest?q=").header("HX-Request", "true"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .doesNotContain("<option");
+    }
+
+    @Test
+    void shouldSendETagAndLastModifiedForProductsPage() {
+        assertThat(mockMvcTester.get().uri("/products"))
+                .hasStatus(HttpStatus.OK)
+                .containsHeader(HttpHeaders.ETAG)
+                .containsHeader(HttpHeaders.LAST_MODIFIED)
+                .hasHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+    }
+
+    @Test
+    void shouldReturn304WhenETagMatches() {
+        String etag = mockMvcTester.get().uri("/products").exchange().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        assertThat(mockMvcTester.get().uri("/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .hasStatus(HttpStatus.NOT_MODIFIED)
+                .bodyText()
+                .isEmpty();
+    }
+
+    @Test
+    void shouldUseDifferentETagsForFullPageAndHtmxPartial() {
+        String pageEtag = mockMvcTester.get().uri("/products").exchange().getResponse().getHeader(HttpHeaders.ETAG);
+        String partialEtag = mockMvcTester
+                .get()
+                .uri("/products")
+                .header("HX-Request", "true")
+                .exchange()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        assertThat(partialEtag).isNotNull().isNotEqualTo(pageEtag);
+    }
+
+    @Test
+    void shouldRenderAgainAfterProductChanges() {
+        String etag = mockMvcTester.get().uri("/products").exchange().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        productService.updateProduct(
+                "P111", new UpdateProductCmd("Game of Thrones II", null, null, new BigDecimal("32.0")));
+
+        assertThat(mockMvcTester.get().uri("/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Game of Thrones II");
+    }
+
+    @Test
+    void shouldRenderAgainAfterChangeStampedWithAnOlderTime() {
+        String etag = mockMvcTester.get().uri("/products").exchange().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        // updated_at comes from whichever clock the writer used, so a later commit can carry an earlier time
+        jdbcTemplate.update(
+                "update catalog.products set name = 'Game of Thrones II', updated_at = 'epoch' where code = 'P111'");
+        catalogVersion.refresh();
+
+        assertThat(mockMvcTester.get().uri("/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Game of Thrones II");
+    }
+
+    @Test
+    void shouldServeRepeatedHtmxPageFromFragmentCache() throws Exception {
+        String rendered = htmxProductsPage();
+        double hitsBefore = fragmentCacheHits();
+
+        String cached = htmxProductsPage();
+
+        assertThat(fragmentCacheHits()).isEqualTo(hitsBefore + 1);
+        assertThat(cached).contains("A Game of Thrones").containsPattern(CSRF_INPUT);
+        assertThat(CSRF_INPUT.matcher(cached).replaceAll("")).isEqualTo(CSRF_INPUT.matcher(rendered).replaceAll(""));
+    }
+
+    @Test
+    void shouldRenderHtmxPageAgainAfterProductChanges() throws Exception {
+        assertThat(htmxProductsPage()).doesNotContain("Game of Thrones II");
+
+        productService.updateProduct(
+                "P111", new UpdateProductCmd("Game of Thrones II", null, null, new BigDecimal("32.0")));
+
+        assertThat(htmxProductsPage()).contains("Game of Thrones II");
+    }
+
+    @Test
+    void shouldSortByPriceAcrossKeysetPages() throws Exception {
+        String firstPage = mockMvcTester
+                .get()
+                .uri("/products?sort=PRICE_ASC")
+                .exchange()
+                .getResponse()
+                .getContentAsString();
+        assertThat(firstPage)
+                .contains("The Alchemist", "The Giving Tree")
+                .doesNotContain("A Game of Thrones", "To Kill a Mockingbird")
+                .contains("sort=PRICE_ASC");
+        Matcher matcher = NEXT_CURSOR.matcher(firstPage);
+        assertThat(matcher.find()).isTrue();
+
+        // A Game of Thrones has the same price as The Giving Tree, the last product of the first page
+        assertThat(mockMvcTester.get().uri("/products?sort=PRICE_ASC&after={cursor}", matcher.group(1)))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("A Game of Thrones", "To Kill a Mockingbird")
+                .doesNotContain("The Giving Tree", "The Alchemist");
+    }
+
+    @Test
+    void shouldSortByPriceDescending() {
+        assertThat(mockMvcTester.get().uri("/products?sort=PRICE_DESC"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("To Kill a Mockingbird", "Fifty Shades of Grey")
+                .doesNotContain("The Alchemist", "A Thousand Splendid Suns");
+    }
+
+    @Test
+    void shouldFilterByPriceRange() {
+        assertThat(mockMvcTester.get().uri("/products?minPrice=14&maxPrice=16"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Charlotte", "The Fault in Our Stars", "The Da Vinci Code", "A Thousand Splendid Suns")
+                .doesNotContain("The Alchemist", "The Little Prince")
+                .doesNotContainPattern(NEXT_CURSOR);
+    }
+
+    @Test
+    void shouldReturn400ForInvalidSort() {
+        assertThat(mockMvcTester.get().uri("/products?sort=RATING")).hasStatus(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldCacheHtmxFragmentsPerFilter() throws Exception {
+        assertThat(htmxProductsPage()).contains("A Game of Thrones");
+
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/products?maxPrice=13")
+                        .header("HX-Request", "true"))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("The Alchemist")
+                .doesNotContain("A Game of Thrones");
+    }
+
+    private String htmxProductsPage() throws Exception {
+        return mockMvcTester
+                .get()
+                .uri("/products")
+                .header("HX-Request", "true")
+                .exchange()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private double fragmentCacheHits() {
+        return meterRegistry
+                .get("cache.gets")
+                .tags("cache", "catalog.fragments", "result", "hit")
+                .functionCounter()
+                .count();
+    }
+}
@@ -0,0 +1,104 @@
+package com.sivalabs.bookstore.common.paging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.sivalabs.bookstore.common.models.PagedResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class PageTotalsTests {
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    @Test
+    void shouldDeriveTotalOnLastPageWithoutCounting() {
+        PageTotals pageTotals = pageTotals(CountStrategy.EXACT);
+
+        PagedResult<String> result = pageTotals.toPagedResult(
+                new SliceImpl<>(List.of("a", "b"), PageRequest.of(2, 10), false), countQuery());
+
+        assertThat(result.totalElements()).isEqualTo(22);
+        assertThat(result.totalPages()).isEqualTo(3);
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    void shouldCountEveryRequestWithExactStrategy() {
+        PageTotals pageTotals = pageTotals(CountStrategy.EXACT);
+
+        pageTotals.toPagedResult(firstPage(), countQuery());
+        PagedResult<String> result = pageTotals.toPagedResult(firstPage(), countQuery());
+
+        assertThat(result.totalElements()).isEqualTo(42);
+        assertThat(result.totalEstimated()).isFalse();
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void shouldReuseCachedCountUntilInvalidated() {
+        PageTotals pageTotals = pageTotals(CountStrategy.CACHED);
+
+        pageTotals.toPagedResult(firstPage(), countQuery());
+        pageTotals.toPagedResult(firstPage(), countQuery());
+        assertThat(countQueries).hasValue(1);
+
+        pageTotals.invalidate("things");
+        pageTotals.toPagedResult(firstPage(), countQuery());
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void shouldKeepCachedCountUntilInvalidatingTransactionCommits() {
+        PageTotals pageTotals = pageTotals(CountStrategy.CACHED);
+        pageTotals.toPagedResult(firstPage(), countQuery());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            pageTotals.invalidate("things");
+            pageTotals.toPagedResult(firstPage(), countQuery());
+            assertThat(countQueries).hasValue(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        pageTotals.toPagedResult(firstPage(), countQuery());
+        assertThat(countQueries).hasValue(2);
+    }
+
+    @Test
+    void shouldNotEstimateFilteredQueries() {
+        PageTotals pageTotals = pageTotals(CountStrategy.ESTIMATED);
+
+        PagedResult<String> result = pageTotals.toPagedResult(
+                firstPage(), CountQuery.filtered("things", "RED", () -> countQueries.incrementAndGet() + 41L));
+
+        assertThat(result.totalElements()).isEqualTo(42);
+        assertThat(result.totalEstimated()).isFalse();
+    }
+
+    private PageTotals pageTotals(CountStrategy strategy) {
+        var properties =
+                new PagingProperties(CountStrategy.EXACT, Map.of("things", strategy), Duration.ofMinutes(1), 100_000);
+        return new PageTotals(properties, mock(JdbcClient.class));
+    }
+
+    private CountQuery countQuery() {
+        return CountQuery.ofTable("things", "things", () -> {
+            countQueries.incrementAndGet();
+            return 42;
+        });
+    }
+
+    private static SliceImpl<String> firstPage() {
+        return new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true);
+    }
+}
@@ -0,0 +1,126 @@
+package com.sivalabs.bookstore.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.common.datasource.PrimaryReads;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Uses the single Postgres container under two pool names; the pools tell themselves apart by application_name.
+ */
+@SpringBootTest(
+        webEnvironment = RANDOM_PORT,
+        properties = {
+            "app.datasource.replica.enabled=true",
+            "spring.datasource.hikari.data-source-properties.ApplicationName=primary",
+            "app.datasource.replica.hikari.data-source-properties.ApplicationName=replica"
+        })
+@Import({TestcontainersConfiguration.class, ReadReplicaRoutingTests.ReplicaConnection.class})
+class ReadReplicaRoutingTests {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        assertThat(pool(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldRouteReadWriteTransactionsToPrimary() {
+        assertThat(pool(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldKeepReadsOfSessionOnPrimaryRightAfterWrite() {
+        var request = new MockHttpServletRequest();
+        request.getSession(true);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            pool(false);
+
+            assertThat(pool(true)).isEqualTo("primary");
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    @Test
+    void shouldNotPinThreadToPrimaryAfterWriteOutsideSession() {
+        pool(false);
+
+        assertThat(pool(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldRoutePinnedReadsToPrimary() {
+        AtomicReference<String> routed = new AtomicReference<>();
+
+        PrimaryReads.run(() -> routed.set(pool(true)));
+
+        assertThat(routed).hasValue("primary");
+        assertThat(pool(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void shouldPublishMetricsPerPool() {
+        pool(true);
+
+        assertThat(meterRegistry.get("hikaricp.connections").tag("pool", "replica").gauge())
+                .isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections").tag("pool", "primary").gauge())
+                .isNotNull();
+        assertThat(meterRegistry
+                        .get("datasource.routed.connections")
+                        .tag("pool", "replica")
+                        .counter()
+                        .count())
+                .isPositive();
+    }
+
+    private String pool(boolean readOnly) {
+        var transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        String pool = transactionTemplate.execute(status -> jdbcClient
+                .sql("select current_setting('application_name')")
+                .query(String.class)
+                .single());
+        return pool != null ? pool : "";
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class ReplicaConnection {
+
+        @Bean
+        DynamicPropertyRegistrar replicaProperties(PostgreSQLContainer postgres) {
+            return registry -> {
+                registry.add("app.datasource.replica.url", postgres::getJdbcUrl);
+                registry.add("app.datasource.replica.username", postgres::getUsername);
+                registry.add("app.datasource.replica.password", postgres::getPassword);
+            };
+        }
+    }
+}
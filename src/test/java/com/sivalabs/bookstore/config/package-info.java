@@ -0,0 +1,4 @@
+@NullMarked
+package com.sivalabs.bookstore.config;
+
+import org.jspecify.annotations.NullMarked;
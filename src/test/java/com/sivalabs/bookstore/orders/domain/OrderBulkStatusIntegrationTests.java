@@ -0,0 +1,123 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.ProductApi;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusCmd;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusResult;
+import com.sivalabs.bookstore.orders.domain.models.OrderBulkStatusResult.RejectedOrder;
+import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+class OrderBulkStatusIntegrationTests {
+
+    @Autowired
+    private OrderBulkStatusService orderBulkStatusService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderStatusCounts orderStatusCounts;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    ProductApi productApi;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM orders.orders");
+        orderStatusCounts.reconcile();
+    }
+
+    @Test
+    void shouldMoveListedOrdersAndReportTheOnesThatCannotMove() {
+        String first = createOrder();
+        String second = createOrder();
+        String delivered = createOrder();
+        orderService.updateOrderStatus(delivered, OrderStatus.IN_PROCESS);
+        orderService.updateOrderStatus(delivered, OrderStatus.DELIVERED);
+
+        OrderBulkStatusResult result = orderBulkStatusService.updateOrderStatuses(new OrderBulkStatusCmd(
+                first + ", " + second + "\n" + delivered + " unknown-order", null, OrderStatus.IN_PROCESS));
+
+        assertThat(result.transitioned()).containsExactlyInAnyOrder(first, second);
+        assertThat(result.rejected())
+                .containsExactly(
+                        new RejectedOrder(delivered, OrderStatus.DELIVERED), new RejectedOrder("unknown-order", null));
+        assertThat(orderService.findOrderAdmin(first))
+                .get()
+                .satisfies(order -> assertThat(order.status()).isEqualTo(OrderStatus.IN_PROCESS));
+        assertThat(orderService.getOrderStatusCounts())
+                .contains(
+                        entry(OrderStatus.NEW, 0L),
+                        entry(OrderStatus.IN_PROCESS, 2L),
+                        entry(OrderStatus.DELIVERED, 1L));
+    }
+
+    @Test
+    void shouldMoveAllOrdersInStatusAcrossChunks() {
+        jdbcTemplate.update("""
+                insert into orders.orders(order_number, user_id, customer_name, customer_email, customer_phone,
+                                          delivery_address, product_code, product_name, product_price, quantity,
+                                          status, created_at)
+                select 'bulk-' || g, 2, 'Siva', 'siva@gmail.com', '9999999999', 'Test Address', 'P100',
+                       'The Hunger Games', '34.0', 1, 'NEW', now()
+                from generate_series(1, 2500) g
+                """);
+        orderStatusCounts.reconcile();
+
+        OrderBulkStatusResult result = orderBulkStatusService.updateOrderStatuses(
+                new OrderBulkStatusCmd(null, OrderStatus.NEW, OrderStatus.CANCELLED));
+
+        assertThat(result.transitioned()).hasSize(2500);
+        assertThat(result.rejected()).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                        "select count(*) from orders.orders where status = 'CANCELLED'", Long.class))
+                .isEqualTo(2500L);
+        assertThat(orderService.getOrderStatusCounts())
+                .contains(entry(OrderStatus.NEW, 0L), entry(OrderStatus.CANCELLED, 2500L));
+    }
+
+    @Test
+    void shouldOnlyMoveListedOrdersInTheSelectedStatus() {
+        String fresh = createOrder();
+        String inProcess = createOrder();
+        orderService.updateOrderStatus(inProcess, OrderStatus.IN_PROCESS);
+
+        OrderBulkStatusResult result = orderBulkStatusService.updateOrderStatuses(
+                new OrderBulkStatusCmd(fresh + " " + inProcess, OrderStatus.IN_PROCESS, OrderStatus.CANCELLED));
+
+        assertThat(result.transitioned()).containsExactly(inProcess);
+        assertThat(result.rejected()).containsExactly(new RejectedOrder(fresh, OrderStatus.NEW));
+    }
+
+    @Test
+    void shouldRejectTransitionNotAllowedForSelectedStatus() {
+        createOrder();
+
+        assertThatThrownBy(() -> orderBulkStatusService.updateOrderStatuses(
+                        new OrderBulkStatusCmd(null, OrderStatus.DELIVERED, OrderStatus.NEW)))
+                .isInstanceOf(InvalidOrderException.class);
+    }
+
+    private String createOrder() {
+        return orderService.createOrder(TestOrders.createOrderCmd(2L)).orderNumber();
+    }
+}
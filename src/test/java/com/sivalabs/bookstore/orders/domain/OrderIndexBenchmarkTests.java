@@ -0,0 +1,117 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.ProductApi;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Seeds 10M orders for 100k users and checks that the "My orders" and admin status queries are answered from the
+ * access-pattern indexes. Run with {@code -Dbenchmarks=true}.
+ */
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class OrderIndexBenchmarkTests {
+    private static final int ORDER_COUNT = 10_000_000;
+    private static final int USER_COUNT = 100_000;
+    private static final String COLUMNS =
+            "id, order_number, user_id, customer_name, product_code, quantity, status, created_at";
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @MockitoBean
+    ProductApi productApi;
+
+    @BeforeAll
+    void seedOrders() {
+        jdbcClient.sql("delete from orders.orders").update();
+        jdbcClient
+                .sql("""
+                    insert into orders.orders(order_number, user_id, customer_name, customer_email, customer_phone,
+                                              delivery_address, product_code, product_name, product_price, quantity,
+                                              status, created_at)
+                    select md5(g::text), 1 + g % :users, 'Customer ' || g % :users, 'customer@example.com',
+                           '9999999999', 'Address ' || g, 'P100', 'The Hunger Games', '34.0', 1,
+                           (array['NEW', 'IN_PROCESS', 'DELIVERED', 'CANCELLED', 'ERROR'])[1 + g % 5],
+                           now() - make_interval(secs => :count - g)
+                    from generate_series(1, :count) g
+                    """)
+                .param("users", USER_COUNT)
+                .param("count", ORDER_COUNT)
+                .update();
+        jdbcClient.sql("vacuum analyze orders.orders").update();
+    }
+
+    @AfterAll
+    void deleteOrders() {
+        jdbcClient.sql("truncate orders.orders").update();
+    }
+
+    @Test
+    void myOrdersUsesUserIndex() {
+        String sql = "select " + COLUMNS + " from orders.orders where user_id = 4242 order by id desc limit 21";
+
+        assertThat(explain(sql)).contains("orders_user_id_id_idx").doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void myOrdersNextPageSeeksInUserIndex() {
+        String sql = "select " + COLUMNS + """
+                 from orders.orders
+                where user_id = 4242 and id < 5000000
+                order by id desc
+                limit 21
+                """;
+
+        assertThat(explain(sql)).contains("orders_user_id_id_idx").doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void orderLookupWithinUserUsesIndex() {
+        String sql = "select " + COLUMNS + " from orders.orders where order_number = md5('4242') and user_id = 4243";
+
+        assertThat(explain(sql)).containsPattern("Index (Only )?Scan").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void adminStatusPageUsesStatusIndex() {
+        String sql = "select " + COLUMNS + """
+                 from orders.orders
+                where status = 'DELIVERED'
+                order by created_at desc
+                offset 100 limit 10
+                """;
+
+        assertThat(explain(sql)).contains("orders_status_created_at_idx").doesNotContain("Seq Scan", "Sort");
+    }
+
+    @Test
+    void statusCountUsesIndexOnlyScan() {
+        String sql = "select count(*) from orders.orders where status = 'ERROR'";
+
+        assertThat(explain(sql)).contains("Index Only Scan using orders_status_created_at_idx");
+    }
+
+    private String explain(String sql) {
+        List<String> lines =
+                jdbcClient.sql("explain (analyze, buffers) " + sql).query(String.class).list();
+        return String.join(System.lineSeparator(), lines);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class OrderNumberGeneratorTests {
+    private static final long NOW = 1_760_000_000_000L;
+
+    private final OrderNumberGenerator generator = new OrderNumberGenerator();
+
+    @Test
+    void shouldGenerateVersion7UuidsWithTimestamp() {
+        UUID uuid = generator.next(NOW);
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+    }
+
+    @Test
+    void shouldGenerateIncreasingNumbersAsStrings() {
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(generator.next(NOW + i / 100).toString());
+        }
+
+        assertThat(numbers).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void shouldKeepIncreasingWhenClockStepsBack() {
+        String first = generator.next(NOW).toString();
+        String afterStepBack = generator.next(NOW - 5_000).toString();
+
+        assertThat(afterStepBack).isGreaterThan(first);
+    }
+
+    @Test
+    void shouldCarryCounterOverflowIntoTimestamp() {
+        UUID last = generator.next(NOW);
+        for (int i = 0; i < 5_000; i++) {
+            last = generator.next(NOW);
+        }
+
+        assertThat(last.getMostSignificantBits() >>> 16).isEqualTo(NOW + 1);
+    }
+
+    @Test
+    void shouldGenerateUniqueNumbersConcurrently() {
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < 32; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        numbers.add(OrderNumberGenerator.nextOrderNumber());
+                    }
+                });
+            }
+        }
+
+        assertThat(numbers).hasSize(32 * 5_000);
+    }
+}
@@ -0,0 +1,167 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.ProductApi;
+import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+/**
+ * Hammers single orders with concurrent status changes from virtual threads. Every reported transition must be in
+ * the order's version and the counters, and no thread may block while reading an order: only the UPDATE of the
+ * loser waits for the winner to commit, after which its version check fails and it retries.
+ */
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+class OrderStatusConcurrencyTests {
+    private static final int THREADS = 24;
+    private static final int ROUNDS = 10;
+    private static final Duration MONITOR_INTERVAL = Duration.ofMillis(5);
+    private static final List<OrderStatus> TARGETS =
+            List.of(OrderStatus.IN_PROCESS, OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderStatusCounts orderStatusCounts;
+
+    @Autowired
+    private OrderStatusCountRepository statusCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JdbcClient jdbcClient;
+
+    @MockitoBean
+    ProductApi productApi;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM orders.orders");
+        orderStatusCounts.reconcile();
+    }
+
+    @Test
+    void shouldNotLoseTransitionsWhenManyThreadsChangeOneOrder() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger blockedReads = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> monitor = executor.submit(() -> monitorBlockedReads(running, blockedReads));
+            try {
+                for (int round = 0; round < ROUNDS; round++) {
+                    String orderNumber = createOrder();
+                    List<Attempt> attempts = hammer(executor, orderNumber);
+
+                    List<OrderStatus> transitions = attempts.stream()
+                            .filter(attempt -> attempt.outcome() == Outcome.TRANSITIONED)
+                            .map(Attempt::target)
+                            .toList();
+                    StoredOrder stored = jdbcClient
+                            .sql("select status, version from orders.orders where order_number = :orderNumber")
+                            .param("orderNumber", orderNumber)
+                            .query((rs, rowNum) -> new StoredOrder(
+                                    OrderStatus.valueOf(rs.getString("status")), rs.getLong("version")))
+                            .single();
+
+                    // At most NEW -> IN_PROCESS -> DELIVERED or CANCELLED, each one reflected in the version
+                    assertThat(transitions).isNotEmpty().hasSizeLessThanOrEqualTo(2);
+                    assertThat(stored.version()).isEqualTo(transitions.size());
+                    assertThat(transitions).contains(stored.status());
+                }
+            } finally {
+                running.set(false);
+            }
+            monitor.get();
+        }
+
+        assertThat(statusCountRepository.findDrift()).isEmpty();
+        assertThat(blockedReads).hasValue(0);
+    }
+
+    private List<Attempt> hammer(ExecutorService executor, String orderNumber) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Attempt>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            OrderStatus target = TARGETS.get(i % TARGETS.size());
+            futures.add(executor.submit(() -> {
+                start.await();
+                return new Attempt(target, updateStatus(orderNumber, target));
+            }));
+        }
+        start.countDown();
+        List<Attempt> attempts = new ArrayList<>();
+        for (Future<Attempt> future : futures) {
+            attempts.add(future.get());
+        }
+        return attempts;
+    }
+
+    private Outcome updateStatus(String orderNumber, OrderStatus target) {
+        try {
+            orderService.updateOrderStatus(orderNumber, target);
+            return Outcome.TRANSITIONED;
+        } catch (InvalidOrderException e) {
+            return Outcome.NOT_ALLOWED;
+        } catch (OrderUpdateConflictException e) {
+            return Outcome.CONFLICT;
+        }
+    }
+
+    // Reads of orders that wait for a lock would mean the status check is serialized by locking
+    private void monitorBlockedReads(AtomicBoolean running, AtomicInteger blockedReads) {
+        while (running.get()) {
+            int blocked = jdbcClient
+                    .sql("""
+                        select count(*) from pg_stat_activity
+                        where datname = current_database() and wait_event_type = 'Lock'
+                          and query ilike 'select%orders.orders%'
+                        """)
+                    .query(Integer.class)
+                    .single();
+            blockedReads.addAndGet(blocked);
+            try {
+                Thread.sleep(MONITOR_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private String createOrder() {
+        return orderService.createOrder(TestOrders.createOrderCmd(2L)).orderNumber();
+    }
+
+    private enum Outcome {
+        TRANSITIONED,
+        NOT_ALLOWED,
+        CONFLICT
+    }
+
+    private record Attempt(OrderStatus target, Outcome outcome) {}
+
+    private record StoredOrder(OrderStatus status, long version) {}
+}
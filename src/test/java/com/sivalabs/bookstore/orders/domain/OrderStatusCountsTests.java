@@ -0,0 +1,137 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.ProductApi;
+import com.sivalabs.bookstore.orders.domain.models.OrderStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+class OrderStatusCountsTests {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderStatusCounts orderStatusCounts;
+
+    @Autowired
+    private OrderStatusCountRepository statusCountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    ProductApi productApi;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM orders.orders");
+        orderStatusCounts.reconcile();
+    }
+
+    @Test
+    void shouldCountOrdersPerStatusAsTheyAreCreatedAndTransitioned() {
+        String delivered = createOrder();
+        String cancelled = createOrder();
+        createOrder();
+
+        orderService.updateOrderStatus(delivered, OrderStatus.IN_PROCESS);
+        orderService.updateOrderStatus(delivered, OrderStatus.DELIVERED);
+        orderService.updateOrderStatus(cancelled, OrderStatus.CANCELLED);
+
+        assertThat(orderService.getOrderStatusCounts())
+                .containsOnly(
+                        entry(OrderStatus.NEW, 1L),
+                        entry(OrderStatus.IN_PROCESS, 0L),
+                        entry(OrderStatus.DELIVERED, 1L),
+                        entry(OrderStatus.CANCELLED, 1L),
+                        entry(OrderStatus.ERROR, 0L));
+    }
+
+    @Test
+    void shouldLeaveCountsUnchangedForRejectedTransition() {
+        String orderNumber = createOrder();
+
+        assertThatThrownBy(() -> orderService.updateOrderStatus(orderNumber, OrderStatus.DELIVERED))
+                .isInstanceOf(InvalidOrderException.class);
+
+        assertThat(orderService.getOrderStatusCounts())
+                .contains(entry(OrderStatus.NEW, 1L), entry(OrderStatus.DELIVERED, 0L));
+    }
+
+    @Test
+    void shouldCorrectCountsChangedBehindTheServicesBack() {
+        String orderNumber = createOrder();
+        createOrder();
+        jdbcTemplate.update("UPDATE orders.orders SET status = 'ERROR' WHERE order_number = ?", orderNumber);
+
+        orderStatusCounts.reconcile();
+
+        assertThat(orderService.getOrderStatusCounts())
+                .contains(entry(OrderStatus.NEW, 1L), entry(OrderStatus.ERROR, 1L));
+    }
+
+    @Test
+    void shouldPublishLastRefreshedCountsAsGauges() {
+        orderStatusCounts.refresh();
+        createOrder();
+        createOrder();
+
+        assertThat(newOrdersGauge()).isEqualTo(0.0);
+
+        orderService.getOrderStatusCounts();
+
+        assertThat(newOrdersGauge()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldSkipReconciliationWhileAnotherInstanceHoldsTheLock() {
+        createOrder();
+        jdbcTemplate.update("UPDATE orders.orders SET status = 'ERROR'");
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            jdbcTemplate.execute(
+                    "select pg_advisory_xact_lock(" + OrderStatusCountRepository.RECONCILIATION_LOCK_KEY + ")");
+            CompletableFuture.runAsync(orderStatusCounts::reconcile).join();
+        });
+        assertThat(statusCountRepository.findDrift()).isNotEmpty();
+
+        orderStatusCounts.reconcile();
+        assertThat(statusCountRepository.findDrift()).isEmpty();
+    }
+
+    private double newOrdersGauge() {
+        return meterRegistry
+                .get("orders.status.count")
+                .tag("status", "NEW")
+                .gauge()
+                .value();
+    }
+
+    private String createOrder() {
+        return orderService.createOrder(TestOrders.createOrderCmd(2L)).orderNumber();
+    }
+}
@@ -0,0 +1,19 @@
+package com.sivalabs.bookstore.orders.domain;
+
+import com.sivalabs.bookstore.orders.domain.models.CreateOrderCmd;
+import com.sivalabs.bookstore.orders.domain.models.Customer;
+import com.sivalabs.bookstore.orders.domain.models.OrderItem;
+import java.math.BigDecimal;
+
+public final class TestOrders {
+    private TestOrders() {}
+
+    public static CreateOrderCmd createOrderCmd(Long userId) {
+        OrderItem item = new OrderItem("P100", "The Hunger Games", new BigDecimal("34.0"), 1);
+        return new CreateOrderCmd(
+                new CreateOrderCmd.UserId(userId),
+                new Customer("Siva", "siva@gmail.com", "9999999999"),
+                "Test Address",
+                item);
+    }
+}
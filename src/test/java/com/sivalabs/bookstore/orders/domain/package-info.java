@@ -0,0 +1,4 @@
+@NullMarked
+package com.sivalabs.bookstore.orders.domain;
+
+import org.jspecify.annotations.NullMarked;
@@ -232,6 +232,62 @@ class AdminOrderWebControllerTests {
                 .doesNotContain("Cancel Order");
     }
 
+    @Test
+    void shouldShowOrderCountsPerStatus() {
+        var result = orderService.createOrder(buildCreateOrderCmd(1L, "Alice Smith", "alice@example.com"));
+        orderService.updateOrderStatus(result.orderNumber(), OrderStatus.CANCELLED);
+
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/admin/orders/status-counts")
+                        .header("HX-Request", "true")
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Orders by Status", "/admin/orders?status=CANCELLED")
+                .doesNotContain("admin-topbar");
+    }
+
+    @Test
+    void shouldLoadOrderCountsOnDashboard() {
+        assertThat(mockMvcTester.get().uri("/admin").with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("hx-get=\"/admin/orders/status-counts\"");
+    }
+
+    @Test
+    void shouldBulkMoveListedOrdersAndListRejectedOnes() {
+        var created = orderService.createOrder(buildCreateOrderCmd(1L, "Alice Smith", "alice@example.com"));
+        var cancelled = orderService.createOrder(buildCreateOrderCmd(2L, "Bob Jones", "bob@example.com"));
+        orderService.updateOrderStatus(cancelled.orderNumber(), OrderStatus.CANCELLED);
+
+        assertThat(mockMvcTester
+                        .post()
+                        .uri("/admin/orders/bulk-status")
+                        .param("orderNumbers", created.orderNumber() + "\n" + cancelled.orderNumber())
+                        .param("newStatus", "IN_PROCESS")
+                        .with(csrf())
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Moved <strong>1</strong> orders", cancelled.orderNumber(), "CANCELLED");
+    }
+
+    @Test
+    void shouldRejectBulkStatusChangeWithoutSelection() {
+        assertThat(mockMvcTester
+                        .post()
+                        .uri("/admin/orders/bulk-status")
+                        .param("newStatus", "IN_PROCESS")
+                        .with(csrf())
+                        .with(user("admin").roles("ADMIN")))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("Enter order numbers or select the current status")
+                .doesNotContain("bulk-status-result");
+    }
+
     private static CreateOrderCmd buildCreateOrderCmd(Long userId, String customerName, String email) {
         OrderItem item = new OrderItem("P100", "The Hunger Games", new BigDecimal("34.0"), 1);
         return new CreateOrderCmd(
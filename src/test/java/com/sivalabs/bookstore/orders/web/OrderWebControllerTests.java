@@ -0,0 +1,113 @@
+package com.sivalabs.bookstore.orders.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+
+import com.sivalabs.bookstore.TestcontainersConfiguration;
+import com.sivalabs.bookstore.catalog.ProductApi;
+import com.sivalabs.bookstore.orders.domain.OrderService;
+import com.sivalabs.bookstore.orders.domain.TestOrders;
+import com.sivalabs.bookstore.users.domain.SecurityUser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.test.ApplicationModuleTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.assertj.MockMvcTester;
+
+@ApplicationModuleTest(
+        webEnvironment = RANDOM_PORT,
+        extraIncludes = {"config", "users"})
+@Import(TestcontainersConfiguration.class)
+@AutoConfigureMockMvc
+class OrderWebControllerTests {
+    private static final Pattern NEXT_CURSOR = Pattern.compile("/orders\\?after=([A-Za-z0-9_-]+)");
+    private static final SecurityUser SIVA = new SecurityUser(2L, "Siva", "siva@gmail.com", "secret", "ROLE_USER");
+    private static final SecurityUser NEW_CUSTOMER =
+            new SecurityUser(99L, "New Customer", "new@example.com", "secret", "ROLE_USER");
+
+    @Autowired
+    private MockMvcTester mockMvcTester;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    ProductApi productApi;
+
+    private final List<String> orderNumbers = new ArrayList<>();
+
+    private String otherUserOrderNumber = "";
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM orders.orders");
+        orderNumbers.clear();
+        for (int i = 0; i < 25; i++) {
+            orderNumbers.add(orderService.createOrder(TestOrders.createOrderCmd(2L)).orderNumber());
+        }
+        otherUserOrderNumber = orderService.createOrder(TestOrders.createOrderCmd(1L)).orderNumber();
+    }
+
+    @Test
+    void shouldRenderNewestOrdersFirstWithNextPageTrigger() {
+        assertThat(mockMvcTester.get().uri("/orders").with(user(SIVA)))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains(orderNumbers.get(24), orderNumbers.get(5))
+                .doesNotContain(orderNumbers.get(4), otherUserOrderNumber)
+                .containsPattern(NEXT_CURSOR)
+                .contains("hx-trigger=\"revealed\"");
+    }
+
+    @Test
+    void shouldReturnNextRowsForHtmxCursorRequest() throws Exception {
+        String firstPage = mockMvcTester
+                .get()
+                .uri("/orders")
+                .with(user(SIVA))
+                .exchange()
+                .getResponse()
+                .getContentAsString();
+        Matcher matcher = NEXT_CURSOR.matcher(firstPage);
+        assertThat(matcher.find()).isTrue();
+
+        assertThat(mockMvcTester
+                        .get()
+                        .uri("/orders?after={cursor}", matcher.group(1))
+                        .header("HX-Request", "true")
+                        .with(user(SIVA)))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains(orderNumbers.get(4), orderNumbers.get(0))
+                .doesNotContain(orderNumbers.get(5), otherUserOrderNumber, "sf-nav")
+                .doesNotContainPattern(NEXT_CURSOR);
+    }
+
+    @Test
+    void shouldShowEmptyHistoryForUserWithoutOrders() {
+        assertThat(mockMvcTester.get().uri("/orders").with(user(NEW_CUSTOMER)))
+                .hasStatus(HttpStatus.OK)
+                .bodyText()
+                .contains("No orders yet.")
+                .doesNotContainPattern(NEXT_CURSOR);
+    }
+
+    @Test
+    void shouldReturn400ForInvalidCursor() {
+        assertThat(mockMvcTester.get().uri("/orders?after=not-a-cursor").with(user(SIVA)))
+                .hasStatus(HttpStatus.BAD_REQUEST);
+    }
+}